@@ -1,36 +1,59 @@
 package com.github.apigcc.core;
 
+import com.github.apigcc.core.common.helper.FileHelper;
 import com.github.apigcc.core.common.helper.StringHelper;
 import com.github.apigcc.core.common.markup.MarkupBuilder;
+import com.github.apigcc.core.parser.MarkerFilter;
+import com.github.apigcc.core.parser.ParseCache;
 import com.github.apigcc.core.parser.ParserStrategy;
+import com.github.apigcc.core.parser.ProjectSnapshot;
 import com.github.apigcc.core.parser.VisitorParser;
 import com.github.apigcc.core.render.ProjectRender;
+import com.github.apigcc.core.render.RenderPlan;
 import com.github.apigcc.core.resolver.TypeResolvers;
+import com.github.apigcc.core.common.helper.DependencyContext;
+import com.github.apigcc.core.common.helper.ReferenceContext;
+import com.github.apigcc.core.schema.Chapter;
 import com.github.apigcc.core.schema.Project;
+import com.github.apigcc.core.solver.CompilationUnitStore;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ParserConfiguration;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.symbolsolver.JavaSymbolSolver;
-import com.github.javaparser.utils.SourceRoot;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
 import com.google.common.collect.Iterables;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class Apigcc {
 
-    private static Apigcc INSTANCE;
+    /**
+     * 当前线程正在运行的Apigcc实例
+     * 不同线程可同时运行多个实例，互不影响
+     */
+    private static ThreadLocal<Apigcc> current = new ThreadLocal<>();
 
     public static Apigcc getInstance() {
-        return INSTANCE;
+        return current.get();
     }
 
     @Getter
@@ -42,7 +65,27 @@ public class Apigcc {
     private Project project = new Project();
 
     private VisitorParser visitorParser = new VisitorParser();
-    private ParserConfiguration parserConfiguration = new ParserConfiguration();
+
+    /**
+     * JavaParser的符号解析缓存非线程安全，每个解析线程持有独立的配置
+     * 源码解析与符号解析共用线程内的CompilationUnitStore
+     */
+    private ThreadLocal<CompilationUnitStore> compilationUnitStore = ThreadLocal.withInitial(this::buildCompilationUnitStore);
+
+    /**
+     * 解析前的源码文件筛选，解析策略未声明标记注解时为null
+     */
+    private MarkerFilter markerFilter;
+
+    /**
+     * 解析缓存，未启用时为null
+     */
+    private ParseCache parseCache;
+
+    /**
+     * 解析环境标识，见fingerprint
+     */
+    private String fingerprint;
 
     @Getter
     private TypeResolvers typeResolvers = new TypeResolvers();
@@ -64,15 +107,149 @@ public class Apigcc {
      * @param context
      */
     private void init(Context context) {
-        INSTANCE = this;
         this.context = context;
+        run(this::load);
+    }
+
+    /**
+     * 加载解析框架
+     */
+    private void load() {
         this.project.init(this.context);
 
         ParserStrategy strategy = this.loadParserStrategy();
         strategy.onLoad();
         this.visitorParser.setParserStrategy(strategy);
 
-        this.parserConfiguration.setSymbolResolver(new JavaSymbolSolver(this.context.buildTypeSolver()));
+        if (!strategy.markers().isEmpty()) {
+            this.markerFilter = new MarkerFilter(strategy.markers());
+        }
+        this.fingerprint = fingerprint(strategy);
+        if (this.context.isCache()) {
+            this.parseCache = new ParseCache(this.context.getCachePath(), this.fingerprint, this.context.getDependencies());
+        }
+    }
+
+    /**
+     * 在当前线程上以本实例为上下文执行
+     * 结束后清理线程上的解析上下文及CompilationUnitStore，线程可继续用于其他实例
+     *
+     * @param runnable
+     */
+    private void run(Runnable runnable) {
+        if (current.get() == this) {
+            runnable.run();
+            return;
+        }
+        Apigcc previous = current.get();
+        current.set(this);
+        try {
+            runnable.run();
+        } finally {
+            release();
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 清理当前线程上本实例的解析状态
+     */
+    private void release() {
+        ReferenceContext.remove();
+        DependencyContext.remove();
+        compilationUnitStore.remove();
+    }
+
+    /**
+     * 并行解析的工作线程
+     * 线程存活期间以本实例为上下文，逐个文件解析时复用线程上的CompilationUnitStore，线程结束时清理
+     */
+    private class ParseWorker extends ForkJoinWorkerThread {
+
+        private ParseWorker(ForkJoinPool pool) {
+            super(pool);
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            current.set(Apigcc.this);
+        }
+
+        @Override
+        protected void onTermination(Throwable exception) {
+            release();
+            current.remove();
+            super.onTermination(exception);
+        }
+    }
+
+    /**
+     * 解析环境标识，解析框架、url前缀、依赖jar变化时解析缓存失效
+     * jar包按路径、大小及修改时间区分，原路径替换的jar包同样使缓存失效
+     * @param strategy
+     * @return
+     */
+    private String fingerprint(ParserStrategy strategy) {
+        List<String> values = new ArrayList<>();
+        values.add(strategy.name());
+        values.add(String.valueOf(this.context.getUrlPrefix()));
+        values.add(String.valueOf(this.context.getTypeMaxDepth()));
+        values.add(String.valueOf(this.context.getTypeMaxFields()));
+        values.add(String.valueOf(this.context.getTypeMaxRows()));
+        this.context.getJars().forEach(jar -> values.add(stamp(jar)));
+        return String.join("|", values);
+    }
+
+    /**
+     * 快照标识，解析环境或任一源码文件内容变化时快照失效
+     * @return
+     */
+    private String snapshotFingerprint() {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(fingerprint, StandardCharsets.UTF_8);
+        for (Path file : this.context.getSourceFiles()) {
+            hasher.putString("|" + file + ":" + FileHelper.hash(file).orElse(""), StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * 文件路径、大小及修改时间
+     * @param file
+     * @return
+     */
+    private static String stamp(Path file) {
+        try {
+            return file + ":" + Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return file.toString();
+        }
+    }
+
+    /**
+     * 构建带符号解析的CompilationUnitStore
+     * @return
+     */
+    private CompilationUnitStore buildCompilationUnitStore() {
+        ParserConfiguration configuration = this.context.buildParserConfiguration();
+        CompilationUnitStore store = new CompilationUnitStore(configuration, this.context.getTypeSolverCacheSize());
+        TypeSolver typeSolver = this.context.buildTypeSolver(store);
+        store.setTypeSolver(typeSolver);
+        configuration.setSymbolResolver(new JavaSymbolSolver(typeSolver));
+        return store;
+    }
+
+    /**
+     * 当前线程的TypeSolver，与源码解析共用CompilationUnitStore
+     * @return
+     */
+    public TypeSolver getTypeSolver() {
+        return compilationUnitStore.get().getTypeSolver();
     }
 
     /**
@@ -102,28 +279,118 @@ public class Apigcc {
      * @return
      */
     public Project parse() {
-        for (Path source : this.context.getSources()) {
-            SourceRoot root = new SourceRoot(source, parserConfiguration);
-            try {
-                for (ParseResult<CompilationUnit> result : root.tryToParse()) {
-                    if (result.isSuccessful() && result.getResult().isPresent()) {
-                        result.getResult().get().accept(visitorParser, project);
-                    }
-                }
-            } catch (IOException e) {
-                log.warn("parse root {} error {}", source, e.getMessage());
+        run(() -> {
+            List<Path> files = this.context.getSourceFiles();
+            if (markerFilter != null) {
+                int total = files.size();
+                files = files.stream().filter(markerFilter).collect(Collectors.toList());
+                log.debug("pre-scan matched {} of {} source files", files.size(), total);
             }
-        }
+            parse(files);
+            logUnsolved();
+        });
         return project;
     }
 
+    /**
+     * 汇总输出解析失败的类型
+     */
+    private void logUnsolved() {
+        Map<String, Integer> unsolved = typeResolvers.getUnsolved();
+        if (unsolved.isEmpty()) {
+            return;
+        }
+        log.warn("{} types unsolved, {} occurrences", unsolved.size(), unsolved.values().stream().mapToInt(Integer::intValue).sum());
+        unsolved.forEach((type, count) -> log.warn("unsolved type {} x{}", type, count));
+    }
+
+    /**
+     * 逐个文件解析源代码
+     * 并行度大于1时使用ForkJoinPool并行解析
+     * 每个文件解析至独立的Project，再按文件顺序合并，保证与串行解析结果一致
+     * 文件解析、访问后即合并，CompilationUnit仅保留在有上限的CompilationUnitStore中
+     *
+     * @param files
+     */
+    private void parse(List<Path> files) {
+        if (this.context.getParallelism() <= 1) {
+            files.stream().map(this::parse).forEach(project::merge);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(this.context.getParallelism(), ParseWorker::new, null, false);
+        try {
+            pool.submit(() -> files.parallelStream()
+                    .map(this::parse)
+                    .forEachOrdered(project::merge)).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to parse sources", e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 解析单个源文件
+     *
+     * @param file
+     * @return 仅包含该文件内容的Project
+     */
+    private Project parse(Path file) {
+        Project fileProject = new Project();
+        run(() -> parse(file, fileProject));
+        return fileProject;
+    }
+
+    private void parse(Path file, Project fileProject) {
+        if (parseCache != null) {
+            Optional<List<Chapter>> cached = parseCache.get(file);
+            if (cached.isPresent()) {
+                cached.get().forEach(fileProject::addChapter);
+                return;
+            }
+        }
+        Optional<ParseResult<CompilationUnit>> result = compilationUnitStore.get().get(file);
+        if (result.isPresent() && result.get().isSuccessful() && result.get().getResult().isPresent()) {
+            DependencyContext.getInstance().clear();
+            result.get().getResult().get().accept(visitorParser, fileProject);
+            if (parseCache != null) {
+                DependencyContext dependencyContext = DependencyContext.getInstance();
+                parseCache.put(file, fileProject.getChapters(), dependencyContext.getValues(), dependencyContext.getUnsolved());
+            }
+        }
+    }
+
+    /**
+     * 保存解析结果的快照
+     * @param file 快照文件
+     */
+    public void writeSnapshot(Path file) {
+        ProjectSnapshot.write(project, snapshotFingerprint(), file);
+        log.info("Write snapshot {}", file);
+    }
+
+    /**
+     * 读取快照作为解析结果，之后可直接渲染
+     * @param file 快照文件
+     * @return 快照不可用或源码、解析环境已变化时返回false，解析结果不变
+     */
+    public boolean readSnapshot(Path file) {
+        Optional<Project> snapshot = ProjectSnapshot.read(file, snapshotFingerprint());
+        snapshot.ifPresent(value -> this.project = value);
+        return snapshot.isPresent();
+    }
+
     /**
      * 渲染解析结果
+     * 按url筛选、排序一次，各渲染器共用
      */
     public void render() {
-        for (ProjectRender render : this.context.getRenders()) {
-            render.render(project);
-        }
+        run(() -> {
+            RenderPlan plan = RenderPlan.of(project, extConfig);
+            for (ProjectRender render : this.context.getRenders()) {
+                render.render(plan);
+            }
+        });
     }
 
 }
@@ -2,14 +2,21 @@ package com.github.apigcc.core;
 
 import com.github.apigcc.core.common.helper.FileHelper;
 import com.github.apigcc.core.declaration.CodeTypeDeclaration;
+import com.github.apigcc.core.parser.ProjectSnapshot;
 import com.github.apigcc.core.render.AsciidocRender;
 import com.github.apigcc.core.render.ProjectRender;
+import com.github.apigcc.core.solver.CompilationUnitStore;
+import com.github.apigcc.core.solver.JarClass;
+import com.github.apigcc.core.solver.JarIndex;
+import com.github.apigcc.core.solver.JarIndexTypeSolver;
+import com.github.apigcc.core.solver.SourceIndex;
+import com.github.apigcc.core.solver.SourceTypeSolver;
+import com.github.javaparser.ParserConfiguration;
 import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
-import com.github.javaparser.symbolsolver.resolution.typesolvers.JarTypeSolver;
-import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
 import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
 import com.google.common.collect.Lists;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -17,8 +24,15 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Getter
@@ -29,6 +43,11 @@ public class Context {
     public static final String DEFAULT_BUILD_PATH = "build";
     public static final String DEFAULT_DEPENDENCY_CODE_PATH = "dependency";
     public static final String DEFAULT_CODE_STRUCTURE = "src/main/java";
+    public static final int DEFAULT_PARALLELISM = 1;
+    public static final String DEFAULT_CACHE_PATH = ".cache";
+    public static final String DEFAULT_JAR_INDEX_PATH = ".jars";
+    public static final long DEFAULT_TYPE_SOLVER_CACHE_SIZE = 1000;
+    public static final int DEFAULT_TYPE_BUDGET = -1;
 
     /**
      * 设置当前解析框架
@@ -45,19 +64,75 @@ public class Context {
     @Setter
     private Path buildPath = Paths.get(DEFAULT_BUILD_PATH);
 
+    /**
+     * 代码声明的写入目录，未设置时使用buildPath下按模块区分的目录
+     */
+    @Setter
+    private Path dependencyPath;
+
+    /**
+     * 解析并行度，大于1时使用ForkJoinPool并行解析源码
+     */
+    @Setter
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    /**
+     * 是否启用解析缓存，缓存保存在buildPath下，源码未变化的文件不再重复解析
+     * jar包的类索引同样持久化，不再每次运行都读取所有jar包
+     */
+    @Setter
+    private boolean cache;
+
+    /**
+     * 依赖源码解析结果的缓存文件数上限，小于0时不限制
+     */
     @Setter
-    private Path dependencyPath = Paths.get(DEFAULT_DEPENDENCY_CODE_PATH);
+    private long typeSolverCacheSize = DEFAULT_TYPE_SOLVER_CACHE_SIZE;
+
+    /**
+     * 单个小节中对象的嵌套层数上限，超出时以引用占位，小于0时不限制
+     */
+    @Setter
+    private int typeMaxDepth = DEFAULT_TYPE_BUDGET;
+
+    /**
+     * 单个小节示例中的属性数上限，小于0时不限制
+     */
+    @Setter
+    private int typeMaxFields = DEFAULT_TYPE_BUDGET;
+
+    /**
+     * 单个小节表格的行数上限，小于0时不限制
+     */
+    @Setter
+    private int typeMaxRows = DEFAULT_TYPE_BUDGET;
 
     /**
      * 源码目录
      */
     private List<Path> sources = Lists.newArrayList();
 
+    /**
+     * 最近一次获取源码文件时去除的重复文件数
+     */
+    private int duplicateSourceFiles;
+
     /**
      * 依赖源码
      */
     private List<Path> dependencies = Lists.newArrayList();
 
+    /**
+     * 依赖源码的包索引，首次构建TypeSolver时建立，各解析线程共享
+     */
+    private SourceIndex sourceIndex;
+
+    /**
+     * 依赖jar包中的类名 -> 所在jar包的索引，首次读取类信息时建立，各解析线程共享
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile Map<String, JarIndex> jarClassIndexes;
+
     /**
      * 代码声明
      */
@@ -96,6 +171,76 @@ public class Context {
     private String extYamlPath;
 
 
+    /**
+     * 解析缓存目录
+     * @return
+     */
+    public Path getCachePath() {
+        return buildPath.resolve(DEFAULT_CACHE_PATH).resolve(id);
+    }
+
+    /**
+     * 解析结果的快照文件
+     * @return
+     */
+    public Path getSnapshotPath() {
+        return buildPath.resolve(DEFAULT_CACHE_PATH).resolve(id + ProjectSnapshot.EXTENSION);
+    }
+
+    /**
+     * 代码声明的写入目录
+     * 各模块同时生成时写入各自的目录，互不覆盖
+     * @return
+     */
+    public Path getDependencyPath() {
+        if (dependencyPath != null) {
+            return dependencyPath;
+        }
+        return buildPath.resolve(DEFAULT_CACHE_PATH).resolve(DEFAULT_DEPENDENCY_CODE_PATH).resolve(id);
+    }
+
+    /**
+     * jar包类索引目录，各模块共享
+     * @return
+     */
+    public Path getJarIndexPath() {
+        return buildPath.resolve(DEFAULT_CACHE_PATH).resolve(DEFAULT_JAR_INDEX_PATH);
+    }
+
+    /**
+     * 源码文件列表
+     * 模块目录与其下的controller目录相互重叠，只遍历最外层目录，保证每个文件只解析一次
+     * 嵌套或重复注册的目录不再遍历，其下的文件计为去除的重复文件
+     * @return
+     */
+    public List<Path> getSourceFiles() {
+        List<Path> roots = outermost(sources);
+        Set<Path> files = new LinkedHashSet<>();
+        for (Path source : roots) {
+            for (Path file : FileHelper.findJavaFiles(source)) {
+                files.add(file.toAbsolutePath().normalize());
+            }
+        }
+        Set<Path> walked = new HashSet<>(roots);
+        int duplicates = 0;
+        for (Path source : sources) {
+            Path path = source.toAbsolutePath().normalize();
+            if (walked.remove(path)) {
+                continue;
+            }
+            for (Path file : files) {
+                if (file.startsWith(path)) {
+                    duplicates++;
+                }
+            }
+        }
+        this.duplicateSourceFiles = duplicates;
+        if (duplicates > 0) {
+            log.info("removed {} duplicate source files of {}", duplicates, id);
+        }
+        return new ArrayList<>(files);
+    }
+
     public void addSource(Path path) {
         sources.add(path);
 //        sources.addAll(FileHelper.find(path, DEFAULT_CODE_STRUCTURE));
@@ -105,12 +250,14 @@ public class Context {
     }
 
     public void addDependency(Path path){
+        sourceIndex = null;
         dependencies.add(path);
         dependencies.addAll(FileHelper.find(path, DEFAULT_CODE_STRUCTURE));
     }
 
     public void addJar(Path path){
         jars.add(path);
+        jarClassIndexes = null;
     }
 
     /**
@@ -129,29 +276,123 @@ public class Context {
 
     /**
      * 构建TypeSolver
+     * 并行解析时每个线程各自构建，代码声明文件只能同时写入一次
      * @return
      */
     public TypeSolver buildTypeSolver(){
+        return buildTypeSolver(new CompilationUnitStore(buildParserConfiguration(), typeSolverCacheSize));
+    }
+
+    /**
+     * 构建TypeSolver，依赖源码从store中获取，与源码解析共享CompilationUnit
+     * @param store
+     * @return
+     */
+    public synchronized TypeSolver buildTypeSolver(CompilationUnitStore store){
         CombinedTypeSolver typeSolver = new CombinedTypeSolver();
-        for (Path dependency : dependencies) {
-            typeSolver.add(new JavaParserTypeSolver(dependency));
+        if (sourceIndex == null) {
+            sourceIndex = new SourceIndex(distinct(dependencies));
         }
-        for (Path jar : jars) {
+        typeSolver.add(new SourceTypeSolver(sourceIndex, store, typeSolverCacheSize));
+        for (Path jar : distinct(jars)) {
             try {
-                typeSolver.add(new JarTypeSolver(jar));
-            } catch (IOException e) {
+                typeSolver.add(new JarIndexTypeSolver(JarIndex.of(jar, cache ? getJarIndexPath() : null)));
+            } catch (IOException | RuntimeException e) {
                 log.warn("exception on {} {}", jar, e.getMessage());
             }
         }
         if (!codeTypeDeclarations.isEmpty()) {
             for (CodeTypeDeclaration codeTypeDeclaration : codeTypeDeclarations) {
-                Path path = dependencyPath.resolve(codeTypeDeclaration.path());
+                Path path = getDependencyPath().resolve(codeTypeDeclaration.path());
                 FileHelper.write(path, codeTypeDeclaration.code());
             }
-            typeSolver.add(new JavaParserTypeSolver(dependencyPath));
+            typeSolver.add(new SourceTypeSolver(new SourceIndex(Lists.newArrayList(getDependencyPath())), store, typeSolverCacheSize));
         }
         typeSolver.add(new ReflectionTypeSolver());
         return typeSolver;
     }
 
+    /**
+     * 从依赖jar包中读取类的字节码信息，同名类以靠前的jar包为准
+     * @param name 类名，内部类以.分隔
+     * @return
+     */
+    public Optional<JarClass> getJarClass(String name){
+        JarIndex jarIndex = getJarClassIndexes().get(name);
+        if (jarIndex == null) {
+            return Optional.empty();
+        }
+        try {
+            return jarIndex.getJarClass(name);
+        } catch (IOException | RuntimeException e) {
+            log.warn("read {} from {} error {}", name, jarIndex.getPath(), e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 按jar包顺序建立类名与jar包索引的对应关系
+     * @return
+     */
+    private Map<String, JarIndex> getJarClassIndexes(){
+        Map<String, JarIndex> indexes = jarClassIndexes;
+        if (indexes != null) {
+            return indexes;
+        }
+        synchronized (this) {
+            if (jarClassIndexes == null) {
+                indexes = new HashMap<>();
+                for (Path jar : distinct(jars)) {
+                    try {
+                        JarIndex jarIndex = JarIndex.of(jar, cache ? getJarIndexPath() : null);
+                        for (String className : jarIndex.getClassNames()) {
+                            indexes.putIfAbsent(className, jarIndex);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        log.warn("exception on {} {}", jar, e.getMessage());
+                    }
+                }
+                jarClassIndexes = indexes;
+            }
+            return jarClassIndexes;
+        }
+    }
+
+    /**
+     * 按绝对路径去重，重复注册的目录只构建一个TypeSolver
+     * @param paths
+     * @return
+     */
+    private List<Path> distinct(List<Path> paths){
+        Set<Path> result = new LinkedHashSet<>();
+        for (Path path : paths) {
+            result.add(path.toAbsolutePath().normalize());
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * 按绝对路径去重，并去掉包含在其他目录下的目录
+     * @param paths
+     * @return
+     */
+    private List<Path> outermost(List<Path> paths){
+        List<Path> distinct = distinct(paths);
+        List<Path> result = new ArrayList<>();
+        for (Path path : distinct) {
+            if (distinct.stream().noneMatch(other -> !other.equals(path) && path.startsWith(other))) {
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 依赖源码的解析配置，与JavaParserTypeSolver默认配置一致
+     * @return
+     */
+    public ParserConfiguration buildParserConfiguration(){
+        return new ParserConfiguration().setLanguageLevel(ParserConfiguration.LanguageLevel.BLEEDING_EDGE);
+    }
+
 }
@@ -52,6 +52,51 @@ public class ExtConfig {
 
     @Setter
     private List<DirModule> modules;
+    /**
+     * 同时生成文档的模块数
+     */
+    @Setter
+    private Integer moduleParallelism;
+    /**
+     * 单个模块的源码解析并行度
+     */
+    @Setter
+    private Integer parallelism;
+    /**
+     * 是否启用解析缓存
+     */
+    @Setter
+    private Boolean cache;
+    /**
+     * 依赖源码解析结果的缓存文件数上限
+     */
+    @Setter
+    private Long typeSolverCacheSize;
+    /**
+     * 单个接口中对象的嵌套层数上限
+     */
+    @Setter
+    private Integer typeMaxDepth;
+    /**
+     * 单个接口示例中的属性数上限
+     */
+    @Setter
+    private Integer typeMaxFields;
+    /**
+     * 单个接口表格的行数上限
+     */
+    @Setter
+    private Integer typeMaxRows;
+    /**
+     * 是否在解析后保存解析结果的快照
+     */
+    @Setter
+    private Boolean snapshot;
+    /**
+     * 是否直接从已保存的快照渲染，快照不可用时重新解析
+     */
+    @Setter
+    private Boolean renderSnapshot;
 
     /**
      * 要排除url的匹配
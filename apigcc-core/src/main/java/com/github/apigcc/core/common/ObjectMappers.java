@@ -1,11 +1,17 @@
 package com.github.apigcc.core.common;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class ObjectMappers {
 
@@ -16,6 +22,24 @@ public class ObjectMappers {
         instance.setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
+    /**
+     * 只读写字段的ObjectMapper，用于保存解析结果
+     * 避免Section的getRequestLine等方法被当作属性
+     * @return
+     */
+    public static ObjectMapper fields() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        //Book、Chapter使用TreeSet保持排序
+        SimpleModule module = new SimpleModule();
+        module.addAbstractTypeMapping(Set.class, TreeSet.class);
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
     public static String pretty(Object node) {
         try {
             return instance.writerWithDefaultPrettyPrinter().writeValueAsString(node);
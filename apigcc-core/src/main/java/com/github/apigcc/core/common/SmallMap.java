@@ -0,0 +1,192 @@
+package com.github.apigcc.core.common;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 数组实现的小型Map，保持插入顺序
+ * 节点的javadoc标签、扩展属性通常只有几项，超过上限后改用LinkedHashMap，同样保持插入顺序
+ * @param <K>
+ * @param <V>
+ */
+public class SmallMap<K, V> extends AbstractMap<K, V> {
+
+    public static final int MAX_ARRAY_SIZE = 4;
+
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * 超过上限后的存储，未超过时为null
+     */
+    private Map<K, V> large;
+
+    public SmallMap() {
+        this(1);
+    }
+
+    public SmallMap(int capacity) {
+        keys = new Object[Math.min(Math.max(capacity, 1), MAX_ARRAY_SIZE)];
+        values = new Object[keys.length];
+    }
+
+    public SmallMap(Map<? extends K, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(keys[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return large != null ? large.size() : size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return large != null ? large.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (large != null) {
+            return large.get(key);
+        }
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (large != null) {
+            return large.put(key, value);
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+        if (size == MAX_ARRAY_SIZE) {
+            large = new LinkedHashMap<>(this);
+            keys = null;
+            values = null;
+            size = 0;
+            return large.put(key, value);
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.min(size * 2, MAX_ARRAY_SIZE));
+            values = Arrays.copyOf(values, keys.length);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (large != null) {
+            return large.remove(key);
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    @Override
+    public void clear() {
+        if (large != null) {
+            large.clear();
+            return;
+        }
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (large != null) {
+            return large.entrySet();
+        }
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new Iterator<Entry<K, V>>() {
+
+                    private int next;
+                    private int last = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Entry<K, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        last = next++;
+                        int index = last;
+                        return new SimpleEntry<K, V>((K) keys[index], (V) values[index]) {
+                            @Override
+                            public V setValue(V value) {
+                                values[index] = value;
+                                return super.setValue(value);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last < 0) {
+                            throw new IllegalStateException();
+                        }
+                        removeAt(last);
+                        next = last;
+                        last = -1;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+}
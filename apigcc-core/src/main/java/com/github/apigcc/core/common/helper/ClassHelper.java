@@ -1,7 +1,6 @@
 package com.github.apigcc.core.common.helper;
 
 import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.ImportDeclaration;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
@@ -10,7 +9,6 @@ import com.github.javaparser.resolution.declarations.ResolvedTypeParameterDeclar
 import com.github.javaparser.resolution.types.ResolvedReferenceType;
 import com.github.javaparser.resolution.types.ResolvedType;
 import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserClassDeclaration;
-import com.github.javaparser.symbolsolver.reflectionmodel.ReflectionClassDeclaration;
 import com.github.javaparser.utils.Pair;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,6 +22,7 @@ public class ClassHelper {
 
     /**
      * 获取并解析父类
+     * 只返回源码中的父类，jar包及JDK中的父类没有语法节点，其属性由ObjectTypeResolver按字节码解析
      * @param n
      * @return
      */
@@ -39,12 +38,9 @@ public class ClassHelper {
             ResolvedReferenceType resolvedReferenceType = type.resolve();
             if (resolvedReferenceType.getTypeDeclaration() instanceof JavaParserClassDeclaration) {
                 JavaParserClassDeclaration typeDeclaration = (JavaParserClassDeclaration) resolvedReferenceType.getTypeDeclaration();
+                DependencyContext.getInstance().record(typeDeclaration);
                 return Optional.of(typeDeclaration.getWrappedNode());
             }
-            if(resolvedReferenceType.getTypeDeclaration() instanceof ReflectionClassDeclaration){
-                ReflectionClassDeclaration typeDeclaration = (ReflectionClassDeclaration) resolvedReferenceType.getTypeDeclaration();
-                //TODO 解析反射得到的类
-            }
         } catch (Exception e) {
             log.warn(e.getMessage());
         }
@@ -80,31 +76,7 @@ public class ClassHelper {
      * @return
      */
     private static String getNameFromImport(String name, CompilationUnit compilationUnit){
-        int dotPos = name.indexOf('.');
-        String prefix = null;
-        if (dotPos > -1) {
-            prefix = name.substring(0, dotPos);
-        }
-        for (ImportDeclaration importDecl : compilationUnit.getImports()) {
-            if (!importDecl.isAsterisk()) {
-                String qName = importDecl.getNameAsString();
-                boolean defaultPackage = !importDecl.getName().getQualifier().isPresent();
-
-                boolean found = !defaultPackage && importDecl.getName().getIdentifier().equals(name);
-                if (!found) {
-                    if (prefix != null) {
-                        found = qName.endsWith("." + prefix);
-                        if (found) {
-                            qName = qName + name.substring(dotPos);
-                        }
-                    }
-                }
-                if (found) {
-                    return qName;
-                }
-            }
-        }
-        return name;
+        return ImportIndex.of(compilationUnit).get(name).orElse(name);
     }
 
     /**
@@ -129,9 +101,8 @@ public class ClassHelper {
      * @return
      */
     public static Optional<ResolvedType> getTypeParameter(ResolvedReferenceType referenceType, String a){
-        List<Pair<ResolvedTypeParameterDeclaration, ResolvedType>> typeParameters = referenceType.getTypeParametersMap();
-        for (Pair<ResolvedTypeParameterDeclaration, ResolvedType> pair : typeParameters) {
-            if(Objects.equals(pair.a.getName(),a)){
+        for (Pair<ResolvedTypeParameterDeclaration, ResolvedType> pair : referenceType.getTypeParametersMap()) {
+            if (Objects.equals(pair.a.getName(), a)) {
                 return Optional.of(pair.b);
             }
         }
@@ -144,15 +115,7 @@ public class ClassHelper {
      * @param field
      */
     public static ResolvedType useClassTypeParameter(ResolvedReferenceType parent, ResolvedReferenceType field){
-        for (Pair<ResolvedTypeParameterDeclaration, ResolvedType> pair : field.getTypeParametersMap()) {
-            if(pair.b.isTypeVariable()){
-                Optional<ResolvedType> typeParameter = getTypeParameter(parent, pair.b.asTypeVariable().describe());
-                if (typeParameter.isPresent()) {
-                    return field.replaceTypeVariables(pair.b.asTypeVariable().asTypeParameter(), typeParameter.get());
-                }
-            }
-        }
-        return field;
+        return TypeBindings.of(parent).apply(field);
     }
 
 }
@@ -0,0 +1,154 @@
+package com.github.apigcc.core.common.helper;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserClassDeclaration;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserEnumDeclaration;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserInterfaceDeclaration;
+import com.google.common.collect.Sets;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * 记录解析当前文件时依赖的源码文件，以及解析失败的类型可能对应的类名
+ * 解析失败的类型之后新增源码时，依赖其的解析结果同样失效
+ */
+public class DependencyContext {
+
+    private static ThreadLocal<DependencyContext> threadLocal = new ThreadLocal<>();
+
+    public static DependencyContext getInstance(){
+        DependencyContext context = threadLocal.get();
+        if (context == null) {
+            context = new DependencyContext();
+            threadLocal.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * 清理当前线程的上下文
+     */
+    public static void remove(){
+        threadLocal.remove();
+    }
+
+    private final Set<Path> set = Sets.newLinkedHashSet();
+
+    /**
+     * 解析失败的类型可能对应的完整类名
+     */
+    private final Set<String> unsolved = Sets.newLinkedHashSet();
+
+    /**
+     * 记录帧，嵌套的类型解析各自记录期间依赖的文件
+     */
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    /**
+     * 记录类型声明所在的源码文件
+     * @param declaration
+     */
+    public void record(ResolvedReferenceTypeDeclaration declaration){
+        if (declaration instanceof JavaParserClassDeclaration) {
+            record(((JavaParserClassDeclaration) declaration).getWrappedNode());
+        } else if (declaration instanceof JavaParserInterfaceDeclaration) {
+            record(((JavaParserInterfaceDeclaration) declaration).getWrappedNode());
+        } else if (declaration instanceof JavaParserEnumDeclaration) {
+            record(((JavaParserEnumDeclaration) declaration).getWrappedNode());
+        }
+    }
+
+    /**
+     * 记录语法节点所在的源码文件
+     * @param node
+     */
+    public void record(Node node){
+        CompilationUnitHelper.getCompilationUnit(node)
+                .flatMap(CompilationUnit::getStorage)
+                .ifPresent(storage -> add(storage.getPath()));
+    }
+
+    /**
+     * 记录解析失败的类型可能对应的完整类名
+     * @param names
+     */
+    public void recordUnsolved(Collection<String> names){
+        names.forEach(this::addUnsolved);
+    }
+
+    /**
+     * 记录复用的解析结果所依赖的文件及类名
+     * @param frame
+     */
+    public void replay(Frame frame){
+        frame.paths.forEach(this::add);
+        frame.unsolved.forEach(this::addUnsolved);
+    }
+
+    private void add(Path path){
+        set.add(path);
+        Frame frame = frames.peek();
+        if (frame != null) {
+            frame.paths.add(path);
+        }
+    }
+
+    private void addUnsolved(String name){
+        unsolved.add(name);
+        Frame frame = frames.peek();
+        if (frame != null) {
+            frame.unsolved.add(name);
+        }
+    }
+
+    /**
+     * 开始记录
+     */
+    public void begin(){
+        frames.push(new Frame());
+    }
+
+    /**
+     * 结束记录，记录的内容同时计入外层记录帧
+     * @return 记录期间依赖的文件及类名
+     */
+    public Frame end(){
+        Frame frame = frames.pop();
+        Frame parent = frames.peek();
+        if (parent != null) {
+            parent.paths.addAll(frame.paths);
+            parent.unsolved.addAll(frame.unsolved);
+        }
+        return frame;
+    }
+
+    public void clear(){
+        set.clear();
+        unsolved.clear();
+    }
+
+    public Set<Path> getValues(){
+        return set;
+    }
+
+    public Set<String> getUnsolved(){
+        return unsolved;
+    }
+
+    /**
+     * 一次记录期间依赖的文件及类名
+     */
+    public static class Frame {
+
+        private final Set<Path> paths = Sets.newLinkedHashSet();
+        private final Set<String> unsolved = Sets.newLinkedHashSet();
+
+    }
+
+}
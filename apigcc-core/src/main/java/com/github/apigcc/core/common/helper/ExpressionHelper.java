@@ -80,6 +80,7 @@ public class ExpressionHelper {
         try {
             Object resolve = resolvable.resolve();
             if(resolve instanceof JavaParserFieldDeclaration){
+                DependencyContext.getInstance().record(((JavaParserFieldDeclaration) resolve).getWrappedNode());
                 Optional<Expression> initializer = ((JavaParserFieldDeclaration) resolve).getVariableDeclarator().getInitializer();
                 if (initializer.isPresent()) {
                     return getStringValue(initializer.get());
@@ -1,9 +1,13 @@
 package com.github.apigcc.core.common.helper;
 
+import com.github.apigcc.core.Apigcc;
+import com.github.apigcc.core.solver.JarField;
+import com.github.apigcc.core.solver.JarTypes;
 import com.github.javaparser.resolution.declarations.ResolvedFieldDeclaration;
 import com.github.javaparser.resolution.types.ResolvedReferenceType;
 import com.github.javaparser.resolution.types.ResolvedType;
 import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserFieldDeclaration;
+import com.github.javaparser.symbolsolver.javassistmodel.JavassistFieldDeclaration;
 
 import java.util.Optional;
 
@@ -43,19 +47,44 @@ public class FieldHelper {
      * @return
      */
     public static ResolvedType getActuallyType(ResolvedReferenceType parent, ResolvedFieldDeclaration field) {
-        ResolvedType type = field.getType();
-        if (type.isReferenceType()) {
-            //将父类的T，传递给 属性的T
-            return ClassHelper.useClassTypeParameter(parent, type.asReferenceType());
-        }
-        if (type.isTypeVariable()) {
-            //类型为T，这种泛型
-            Optional<ResolvedType> optional = ClassHelper.getTypeParameter(parent, field.getType().asTypeParameter().getName());
-            if (optional.isPresent()) {
-                return optional.get();
+        return getActuallyType(TypeBindings.of(parent), field);
+    }
+
+    /**
+     * 获取真实的属性类型
+     * @param bindings 父类的泛型绑定
+     * @param field
+     * @return
+     */
+    public static ResolvedType getActuallyType(TypeBindings bindings, ResolvedFieldDeclaration field) {
+        return bindings.apply(getDeclaredType(field));
+    }
+
+    /**
+     * 获取属性声明的类型
+     * jar包中的属性按class文件中的签名解析，属性类型可位于其他jar包，不经过javassist的ClassPool
+     * @param field
+     * @return
+     */
+    public static ResolvedType getDeclaredType(ResolvedFieldDeclaration field) {
+        if (field instanceof JavassistFieldDeclaration) {
+            Optional<JarField> jarField = getJarField(field);
+            if (jarField.isPresent() && jarField.get().getType() != null) {
+                return JarTypes.toResolvedType(jarField.get(), Apigcc.getInstance().getTypeSolver(), field.declaringType().asReferenceType());
             }
         }
-        return type;
+        return field.getType();
+    }
+
+    /**
+     * 从依赖jar包的字节码中读取属性信息
+     * @param field
+     * @return
+     */
+    public static Optional<JarField> getJarField(ResolvedFieldDeclaration field) {
+        String className = field.declaringType().getQualifiedName();
+        return Apigcc.getInstance().getContext().getJarClass(className)
+                .flatMap(jarClass -> jarClass.getField(field.getName()));
     }
 
 }
@@ -0,0 +1,114 @@
+package com.github.apigcc.core.common.helper;
+
+import com.github.apigcc.core.description.TypeDescription;
+import com.github.apigcc.core.schema.NodeWithComment;
+import com.github.apigcc.core.solver.JarField;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.resolution.declarations.ResolvedFieldDeclaration;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserFieldDeclaration;
+import com.github.javaparser.symbolsolver.javassistmodel.JavassistFieldDeclaration;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 属性的序列化名称、注释、校验条件、默认值
+ * 首次使用时解析，源码属性保存在语法节点上，jar包中的属性从字节码读取，所属类型重复解析时不再重复读取注解和注释
+ */
+public class FieldMetadata extends NodeWithComment {
+
+    private static final DataKey<FieldMetadata> KEY = new DataKey<FieldMetadata>() {
+    };
+
+    /**
+     * 非源码属性没有可读取的信息
+     */
+    private static final FieldMetadata EMPTY = new FieldMetadata();
+
+    /**
+     * 进程内保留的jar包属性信息数上限
+     */
+    public static final long MAX_JAR_FIELDS = 10000;
+
+    /**
+     * jar包中的属性，以JarIndex缓存的属性对象为键，索引被淘汰后随之回收
+     */
+    private static final Cache<JarField, FieldMetadata> JAR_FIELDS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(MAX_JAR_FIELDS)
+            .build();
+
+    public static FieldMetadata of(ResolvedFieldDeclaration declaredField) {
+        if (declaredField instanceof JavassistFieldDeclaration) {
+            return FieldHelper.getJarField(declaredField)
+                    .map(FieldMetadata::of)
+                    .orElse(EMPTY);
+        }
+        if (!(declaredField instanceof JavaParserFieldDeclaration)) {
+            return EMPTY;
+        }
+        VariableDeclarator variable = ((JavaParserFieldDeclaration) declaredField).getVariableDeclarator();
+        if (variable.containsData(KEY)) {
+            return variable.getData(KEY);
+        }
+        FieldMetadata metadata = new FieldMetadata(declaredField);
+        variable.setData(KEY, metadata);
+        return metadata;
+    }
+
+    private static FieldMetadata of(JarField jarField) {
+        FieldMetadata metadata = JAR_FIELDS.getIfPresent(jarField);
+        if (metadata == null) {
+            metadata = new FieldMetadata(jarField);
+            JAR_FIELDS.put(jarField, metadata);
+        }
+        return metadata;
+    }
+
+    private Optional<String> jsonName = Optional.empty();
+    /**
+     * 注释内容，无注释时为null
+     */
+    private String comment;
+    private List<String> validations = Collections.emptyList();
+    private Optional<Object> defaultValue = Optional.empty();
+
+    private FieldMetadata() {
+    }
+
+    private FieldMetadata(ResolvedFieldDeclaration declaredField) {
+        jsonName = JsonPropertyHelper.getJsonName(declaredField);
+        CommentHelper.getComment(declaredField).ifPresent(this::accept);
+        validations = ValidationHelper.getValidations(declaredField);
+        defaultValue = FieldHelper.getInitializerValue(declaredField);
+    }
+
+    private FieldMetadata(JarField jarField) {
+        jsonName = JsonPropertyHelper.getJsonName(jarField);
+        validations = ValidationHelper.getValidations(jarField);
+    }
+
+    @Override
+    public void setComment(String content) {
+        this.comment = content;
+    }
+
+    /**
+     * 设置至属性的类型描述
+     * @param description
+     */
+    public void applyTo(TypeDescription description) {
+        jsonName.ifPresent(description::setKey);
+        if (comment != null) {
+            description.setComment(comment);
+        }
+        description.putTags(this);
+        description.addConditions(validations);
+        defaultValue.ifPresent(description::setDefaultValue);
+    }
+
+}
@@ -1,19 +1,30 @@
 package com.github.apigcc.core.common.helper;
 
 import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
 public class FileHelper {
 
+    private static final Pattern JAVA_IDENTIFIER = Pattern.compile("\\p{javaJavaIdentifierStart}\\p{javaJavaIdentifierPart}*");
+
     public static void write(Path file, String content) {
 
         if (file.getParent() != null) {
@@ -52,4 +63,63 @@ public class FileHelper {
         return Lists.newArrayList();
     }
 
+    /**
+     * 查找源码目录下的java文件
+     * 与SourceRoot一致，跳过隐藏目录和非包名目录
+     * @param root
+     * @return
+     */
+    public static List<Path> findJavaFiles(Path root){
+        return findJavaFiles(root, Collections.emptySet());
+    }
+
+    /**
+     * 查找源码目录下的java文件，跳过指定的子目录
+     * @param root
+     * @param excludes 跳过的目录，与root同为绝对路径
+     * @return
+     */
+    public static List<Path> findJavaFiles(Path root, Collection<Path> excludes){
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (root.equals(dir)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (excludes.contains(dir) || !JAVA_IDENTIFIER.matcher(dir.getFileName().toString()).matches() || Files.isHidden(dir)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (!attrs.isDirectory() && file.toString().endsWith(".java")) {
+                        files.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("find path error:{} {}", root, e.getMessage());
+        }
+        return files;
+    }
+
+    /**
+     * 计算文件内容的hash
+     * @param file
+     * @return 文件不存在或读取失败时为空
+     */
+    public static Optional<String> hash(Path file){
+        try {
+            return Optional.of(com.google.common.io.Files.asByteSource(file.toFile()).hash(Hashing.sha256()).toString());
+        } catch (IOException e) {
+            log.warn("hash file error:{} {}", file, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,72 @@
+package com.github.apigcc.core.common.helper;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.ImportDeclaration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * CompilationUnit的import索引
+ * 首次使用时建立，保存在CompilationUnit上
+ */
+public class ImportIndex {
+
+    private static final DataKey<ImportIndex> KEY = new DataKey<ImportIndex>() {
+    };
+
+    public static ImportIndex of(CompilationUnit compilationUnit) {
+        if (compilationUnit.containsData(KEY)) {
+            return compilationUnit.getData(KEY);
+        }
+        ImportIndex index = new ImportIndex(compilationUnit);
+        compilationUnit.setData(KEY, index);
+        return index;
+    }
+
+    /**
+     * 类名 -> 完整类名，同名时以先出现的import为准
+     */
+    private final Map<String, String> names = new HashMap<>();
+
+    /**
+     * 通配import的包名
+     */
+    private final List<String> wildcards = new ArrayList<>();
+
+    private ImportIndex(CompilationUnit compilationUnit) {
+        for (ImportDeclaration importDeclaration : compilationUnit.getImports()) {
+            if (importDeclaration.isAsterisk()) {
+                wildcards.add(importDeclaration.getNameAsString());
+            } else if (importDeclaration.getName().getQualifier().isPresent()) {
+                names.putIfAbsent(importDeclaration.getName().getIdentifier(), importDeclaration.getNameAsString());
+            }
+        }
+    }
+
+    /**
+     * 按import补全类名，如 Outer.Inner 按 Outer 的import补全
+     * @param name
+     * @return
+     */
+    public Optional<String> get(String name) {
+        int dotPos = name.indexOf('.');
+        if (dotPos < 0) {
+            return Optional.ofNullable(names.get(name));
+        }
+        String qName = names.get(name.substring(0, dotPos));
+        if (qName == null) {
+            return Optional.empty();
+        }
+        return Optional.of(qName + name.substring(dotPos));
+    }
+
+    public List<String> getWildcards() {
+        return wildcards;
+    }
+
+}
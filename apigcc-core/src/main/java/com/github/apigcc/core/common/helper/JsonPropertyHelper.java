@@ -1,5 +1,6 @@
 package com.github.apigcc.core.common.helper;
 
+import com.github.apigcc.core.solver.JarField;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.ast.expr.Expression;
@@ -36,4 +37,18 @@ public class JsonPropertyHelper {
         return Optional.empty();
     }
 
+    /**
+     * 获取jar包中属性的Json 别名
+     *
+     * @param jarField
+     * @return
+     */
+    public static Optional<String> getJsonName(JarField jarField) {
+        return OptionalHelper.any(
+                jarField.getAnnotationValue(ANNOTATION_JSON_PROPERTY, "value"),
+                jarField.getAnnotationValue(ANNOTATION_JSON_FIELD, "name"),
+                jarField.getAnnotationValue(ANNOTATION_SERIALIZED_NAME, "value")
+        );
+    }
+
 }
@@ -1,7 +1,11 @@
 package com.github.apigcc.core.common.helper;
 
 import com.google.common.collect.Sets;
+import lombok.Getter;
 
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.Set;
 
 /**
@@ -20,15 +24,36 @@ public class ReferenceContext {
         return context;
     }
 
+    /**
+     * 清理当前线程的上下文
+     */
+    public static void remove(){
+        threadLocal.remove();
+    }
+
     private final Set<Object> set = Sets.newHashSet();
 
+    /**
+     * 记录帧，嵌套的类型解析各自记录期间的值
+     */
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
     /**
      * 记录解析的值
      * @param object
      * @return true 成功 false 失败
      */
     public boolean push(Object object){
-        return set.add(object);
+        boolean added = set.add(object);
+        Frame frame = frames.peek();
+        if (frame != null) {
+            if (added) {
+                frame.values.add(object);
+            } else {
+                frame.rejected.add(object);
+            }
+        }
+        return added;
     }
 
     public boolean remove(Object object){
@@ -39,4 +64,59 @@ public class ReferenceContext {
         return set;
     }
 
+    /**
+     * 开始记录
+     */
+    public void begin(){
+        frames.push(new Frame());
+    }
+
+    /**
+     * 结束记录，记录的值同时计入外层记录帧
+     * @return
+     */
+    public Frame end(){
+        Frame frame = frames.pop();
+        Frame parent = frames.peek();
+        if (parent != null) {
+            parent.values.addAll(frame.values);
+            parent.rejected.addAll(frame.rejected);
+        }
+        return frame;
+    }
+
+    /**
+     * 将复用的解析结果所记录的值计入当前记录帧
+     * @param values
+     */
+    public void replay(Collection<Object> values){
+        Frame frame = frames.peek();
+        if (frame != null) {
+            frame.values.addAll(values);
+        }
+    }
+
+    @Getter
+    public static class Frame {
+
+        /**
+         * 记录期间成功记录的值
+         */
+        private final Set<Object> values = Sets.newHashSet();
+
+        /**
+         * 记录期间因循环引用被拒绝的值
+         */
+        private final Set<Object> rejected = Sets.newHashSet();
+
+        /**
+         * 被拒绝的值都在记录期间记录，即解析结果不受外层正在解析的值影响
+         * @return
+         */
+        public boolean isIndependent(){
+            return values.containsAll(rejected);
+        }
+
+    }
+
 }
@@ -0,0 +1,226 @@
+package com.github.apigcc.core.common.helper;
+
+import com.github.apigcc.core.Apigcc;
+import com.github.javaparser.ast.DataKey;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.resolution.UnsolvedSymbolException;
+import com.github.javaparser.resolution.declarations.ResolvedFieldDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.types.ResolvedReferenceType;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserClassDeclaration;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserEnumDeclaration;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserInterfaceDeclaration;
+import com.github.javaparser.symbolsolver.javassistmodel.JavassistFieldDeclaration;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 源码类型声明的直接父类型及继承的属性
+ * 首次使用时解析，保存在类型声明的语法节点上，同一声明的不同泛型类型、各子类型共用
+ * 使用时代入具体类型的泛型参数，直接父类型与ResolvedReferenceType.getDirectAncestors一致
+ */
+public class TypeAncestors {
+
+    private static final DataKey<TypeAncestors> KEY = new DataKey<TypeAncestors>() {
+    };
+
+    private static final String OBJECT = Object.class.getCanonicalName();
+
+    /**
+     * 获取直接父类型，并代入当前类型的泛型参数
+     * @param referenceType
+     * @return
+     */
+    public static List<ResolvedReferenceType> of(ResolvedReferenceType referenceType) {
+        return of(referenceType, TypeBindings.of(referenceType));
+    }
+
+    /**
+     * 获取直接父类型，并代入当前类型的泛型参数
+     * @param referenceType
+     * @param bindings 当前类型的泛型绑定
+     * @return
+     */
+    public static List<ResolvedReferenceType> of(ResolvedReferenceType referenceType, TypeBindings bindings) {
+        Optional<Node> node = getWrappedNode(referenceType.getTypeDeclaration());
+        if (!node.isPresent()) {
+            return referenceType.getDirectAncestors();
+        }
+        if (node.get().containsData(KEY)) {
+            return node.get().getData(KEY).apply(bindings);
+        }
+        List<ResolvedReferenceType> directAncestors = referenceType.getDirectAncestors();
+        node.get().setData(KEY, new TypeAncestors(referenceType.getTypeDeclaration(), directAncestors));
+        return directAncestors;
+    }
+
+    /**
+     * 获取继承的属性，并代入当前类型的泛型参数
+     * 只展开按属性解析的父类型，父类型的属性在前，与逐个合并父类型描述的结果一致
+     * 同时记录展开的父类型所在的源码文件
+     * @param referenceType
+     * @param bindings 当前类型的泛型绑定
+     * @return
+     */
+    public static List<InheritedField> fields(ResolvedReferenceType referenceType, TypeBindings bindings) {
+        Inherited inherited = inherited(referenceType);
+        inherited.declarations.forEach(DependencyContext.getInstance()::record);
+        inherited.unsolved.forEach(Apigcc.getInstance().getTypeResolvers()::unsolved);
+        List<InheritedField> result = new ArrayList<>(inherited.fields.size());
+        for (InheritedField field : inherited.fields) {
+            result.add(field.apply(bindings));
+        }
+        return result;
+    }
+
+    /**
+     * 类型声明继承的属性，源码类型声明的结果保存在语法节点上
+     * @param referenceType
+     * @return
+     */
+    private static Inherited inherited(ResolvedReferenceType referenceType) {
+        ResolvedReferenceTypeDeclaration declaration = referenceType.getTypeDeclaration();
+        Optional<Node> node = getWrappedNode(declaration);
+        if (!node.isPresent()) {
+            return new Inherited(declaration.getAncestors());
+        }
+        TypeAncestors typeAncestors;
+        if (node.get().containsData(KEY)) {
+            typeAncestors = node.get().getData(KEY);
+        } else {
+            typeAncestors = new TypeAncestors(declaration, referenceType.getDirectAncestors());
+            node.get().setData(KEY, typeAncestors);
+        }
+        if (typeAncestors.inherited == null) {
+            typeAncestors.inherited = new Inherited(typeAncestors.ancestors);
+        }
+        return typeAncestors.inherited;
+    }
+
+    private static Optional<Node> getWrappedNode(ResolvedReferenceTypeDeclaration declaration) {
+        if (declaration instanceof JavaParserClassDeclaration) {
+            return Optional.of(((JavaParserClassDeclaration) declaration).getWrappedNode());
+        }
+        if (declaration instanceof JavaParserInterfaceDeclaration) {
+            return Optional.of(((JavaParserInterfaceDeclaration) declaration).getWrappedNode());
+        }
+        if (declaration instanceof JavaParserEnumDeclaration) {
+            return Optional.of(((JavaParserEnumDeclaration) declaration).getWrappedNode());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 声明的父类型，泛型参数未代入
+     */
+    private final List<ResolvedReferenceType> ancestors;
+
+    /**
+     * 末尾追加的java.lang.Object，不需要追加时为null
+     */
+    private final ResolvedReferenceType object;
+
+    /**
+     * 继承的属性，首次获取时展开
+     */
+    private Inherited inherited;
+
+    private TypeAncestors(ResolvedReferenceTypeDeclaration declaration, List<ResolvedReferenceType> directAncestors) {
+        this.ancestors = declaration.getAncestors();
+        ResolvedReferenceType last = directAncestors.isEmpty() ? null : directAncestors.get(directAncestors.size() - 1);
+        this.object = last != null && isObject(last) ? last : null;
+    }
+
+    private List<ResolvedReferenceType> apply(TypeBindings bindings) {
+        List<ResolvedReferenceType> result = new ArrayList<>(ancestors.size() + 1);
+        for (ResolvedReferenceType ancestor : ancestors) {
+            ResolvedReferenceType type = bindings.apply(ancestor).asReferenceType();
+            if (!isObject(type)) {
+                result.add(type);
+            }
+        }
+        if (object != null) {
+            result.add(object);
+        }
+        return result;
+    }
+
+    private static boolean isObject(ResolvedReferenceType type) {
+        return Objects.equals(OBJECT, type.getQualifiedName());
+    }
+
+    /**
+     * 继承的属性，属性类型以子类型声明的泛型变量表示
+     */
+    @Getter
+    public static class InheritedField {
+
+        private final ResolvedFieldDeclaration declaration;
+        private final ResolvedType type;
+
+        private InheritedField(ResolvedFieldDeclaration declaration, ResolvedType type) {
+            this.declaration = declaration;
+            this.type = type;
+        }
+
+        private InheritedField apply(TypeBindings bindings) {
+            ResolvedType applied = bindings.apply(type);
+            return applied == type ? this : new InheritedField(declaration, applied);
+        }
+
+    }
+
+    /**
+     * 类型声明继承的属性及展开的父类型声明
+     */
+    private static class Inherited {
+
+        private final List<ResolvedReferenceTypeDeclaration> declarations = new ArrayList<>();
+        private final List<InheritedField> fields = new ArrayList<>();
+        /**
+         * 无法解析的属性类型
+         */
+        private final List<String> unsolved = new ArrayList<>();
+
+        /**
+         * 按声明顺序展开父类型，先展开父类型继承的属性，再加入父类型声明的属性
+         * @param ancestors 声明的父类型，泛型参数未代入
+         */
+        private Inherited(List<ResolvedReferenceType> ancestors) {
+            for (ResolvedReferenceType ancestor : ancestors) {
+                if (!Apigcc.getInstance().getTypeResolvers().isObject(ancestor)) {
+                    continue;
+                }
+                TypeBindings bindings = TypeBindings.of(ancestor);
+                Inherited parent = inherited(ancestor);
+                declarations.add(ancestor.getTypeDeclaration());
+                declarations.addAll(parent.declarations);
+                for (InheritedField field : parent.fields) {
+                    fields.add(field.apply(bindings));
+                }
+                unsolved.addAll(parent.unsolved);
+                for (ResolvedFieldDeclaration field : ancestor.getTypeDeclaration().getDeclaredFields()) {
+                    if (field.isStatic()) {
+                        continue;
+                    }
+                    try {
+                        fields.add(new InheritedField(field, bindings.apply(FieldHelper.getDeclaredType(field))));
+                    } catch (UnsolvedSymbolException e) {
+                        //与声明的属性一致，jar包中的属性类型无法解析时只忽略该属性
+                        if (!(field instanceof JavassistFieldDeclaration)) {
+                            throw e;
+                        }
+                        unsolved.add(e.getName());
+                    }
+                }
+            }
+        }
+
+    }
+
+}
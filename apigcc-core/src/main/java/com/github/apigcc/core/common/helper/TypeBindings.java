@@ -0,0 +1,79 @@
+package com.github.apigcc.core.common.helper;
+
+import com.github.javaparser.resolution.declarations.ResolvedTypeParameterDeclaration;
+import com.github.javaparser.resolution.types.ResolvedArrayType;
+import com.github.javaparser.resolution.types.ResolvedReferenceType;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.resolution.types.ResolvedWildcard;
+import com.github.javaparser.utils.Pair;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 泛型类型的类型变量绑定，如 Result<Page<Order>> 中 T -> Page<Order>
+ * 每个泛型类型只计算一次，其下所有属性共用
+ */
+public class TypeBindings {
+
+    private final Map<String, ResolvedType> bindings = new LinkedHashMap<>();
+
+    private TypeBindings(ResolvedReferenceType referenceType) {
+        for (Pair<ResolvedTypeParameterDeclaration, ResolvedType> pair : referenceType.getTypeParametersMap()) {
+            bindings.putIfAbsent(pair.a.getName(), pair.b);
+        }
+    }
+
+    public static TypeBindings of(ResolvedReferenceType referenceType) {
+        return new TypeBindings(referenceType);
+    }
+
+    /**
+     * 获取类型变量绑定的类型
+     * @param name 如 T E 等
+     * @return
+     */
+    public Optional<ResolvedType> get(String name) {
+        return Optional.ofNullable(bindings.get(name));
+    }
+
+    /**
+     * 将绑定的类型代入属性类型，如 T、List<T>、Map<K,V>、T[]
+     * 按类型结构逐层代入，代入后的类型不再替换，父类与子类的同名类型变量互不影响
+     * @param type 属性声明的类型
+     * @return
+     */
+    public ResolvedType apply(ResolvedType type) {
+        if (bindings.isEmpty()) {
+            return type;
+        }
+        return substitute(type);
+    }
+
+    private ResolvedType substitute(ResolvedType type) {
+        if (type.isTypeVariable()) {
+            //类型为T，这种泛型
+            return get(type.asTypeParameter().getName()).orElse(type);
+        }
+        if (type.isArray()) {
+            ResolvedType componentType = type.asArrayType().getComponentType();
+            ResolvedType substituted = substitute(componentType);
+            return substituted == componentType ? type : new ResolvedArrayType(substituted);
+        }
+        if (type.isWildcard() && type.asWildcard().isBounded()) {
+            ResolvedWildcard wildcard = type.asWildcard();
+            ResolvedType bound = substitute(wildcard.getBoundedType());
+            if (bound == wildcard.getBoundedType()) {
+                return type;
+            }
+            return wildcard.isExtends() ? ResolvedWildcard.extendsBound(bound) : ResolvedWildcard.superBound(bound);
+        }
+        if (type.isReferenceType() && !type.asReferenceType().typeParametersValues().isEmpty()) {
+            //将父类的T，传递给 属性的T
+            return type.asReferenceType().transformTypeParameters(this::substitute);
+        }
+        return type;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.github.apigcc.core.common.helper;
 
+import com.github.apigcc.core.solver.JarField;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.expr.AnnotationExpr;
 import com.github.javaparser.resolution.declarations.ResolvedFieldDeclaration;
@@ -40,4 +41,14 @@ public class ValidationHelper {
         return result;
     }
 
+    public static List<String> getValidations(JarField jarField) {
+        List<String> result = new ArrayList<>();
+        for (String value : values) {
+            if (jarField.hasAnnotation(value)) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
 }
@@ -2,36 +2,31 @@ package com.github.apigcc.core.description;
 
 import com.github.apigcc.core.common.ObjectMappers;
 import com.github.apigcc.core.schema.Row;
+import com.github.apigcc.core.schema.RowPool;
+import com.github.apigcc.core.schema.Sample;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 import java.util.ArrayList;
 import java.util.Collection;
 
+/**
+ * 数组类型描述
+ * 示例值不常驻内存，使用时按元素生成
+ */
 public class ArrayTypeDescription extends TypeDescription {
 
-    protected ArrayNode value;
     protected TypeDescription component;
 
     public ArrayTypeDescription(TypeDescription component) {
         this.component = component;
-        this.value = ObjectMappers.instance.createArrayNode();
         if(component.isAvailable()){
             this.type = component.getType() + "[]";
-            if(component.isPrimitive()){
-                primitive(component.asPrimitive());
-            }else if(component.isString()){
-                value.add(component.asString().getValue());
-            }else if(component.isArray()){
-                value.add(component.asArray().getValue());
-            }else if(component.isObject()){
-                value.add(component.asObject().getValue());
-            }
         }else{
             this.type = "[]";
         }
     }
 
-    public void primitive(PrimitiveTypeDescription typeDescription){
+    public static void primitive(ArrayNode value, PrimitiveTypeDescription typeDescription){
         switch (typeDescription.getType()){
             case "byte":
                 value.add((byte)typeDescription.getValue());
@@ -60,34 +55,84 @@ public class ArrayTypeDescription extends TypeDescription {
         }
     }
 
-    @Override
-    public void setKey(String key) {
-        super.setKey(key);
-        if (component.isAvailable()) {
-            component.setPrefix(fullKey());
+    /**
+     * 生成完整示例，每次调用生成新的示例
+     * @return
+     */
+    public ArrayNode getValue(){
+        return sample(Budget.unlimited(), 0);
+    }
+
+    /**
+     * 在预算内生成示例
+     * @param budget
+     * @return
+     */
+    public ArrayNode getValue(Budget budget) {
+        return sample(budget, 0);
+    }
+
+    /**
+     * 按需生成的示例，只引用当前描述及小节预算
+     * @param budget 小节预算
+     * @return
+     */
+    public Sample toSample(Budget budget) {
+        return Sample.of(() -> getValue(budget.forSample()));
+    }
+
+    /**
+     * 按元素组装示例，元素与数组处于同一嵌套层
+     * @param budget
+     * @param depth
+     * @return
+     */
+    ArrayNode sample(Budget budget, int depth) {
+        ArrayNode node = ObjectMappers.instance.createArrayNode();
+        if (!component.isAvailable()) {
+            return node;
         }
+        if (component.isPrimitive()) {
+            primitive(node, component.asPrimitive());
+        } else if (component.isString()) {
+            node.add(component.asString().getValue());
+        } else if (component.isArray()) {
+            node.add(component.asArray().sample(budget, depth));
+        } else if (component.isObject()) {
+            node.add(component.asObject().sample(budget, depth));
+        }
+        return node;
+    }
+
+    private ArrayTypeDescription(ArrayTypeDescription other) {
+        this.component = other.component;
     }
 
     @Override
-    public void setPrefix(String prefix) {
-        super.setPrefix(prefix);
-        if (component.isAvailable()) {
-            component.setPrefix(fullKey());
-        }
+    public ArrayTypeDescription copy() {
+        return copyTo(new ArrayTypeDescription(this));
     }
 
-    public ArrayNode getValue(){
-        return value;
+    @Override
+    public Collection<Row> rows(String prefix, Budget budget, int depth) {
+        ArrayList<Row> rows = new ArrayList<>();
+        if(key != null){
+            rows.addAll(budget.take(super.rows(prefix, budget.getRowPool())));
+        }
+        if(component.isAvailable()){
+            rows.addAll(component.rows(fullKey(prefix), budget, depth));
+        }
+        return rows;
     }
 
     @Override
-    public Collection<Row> rows() {
+    public Collection<Row> rows(String prefix, RowPool rowPool) {
         ArrayList<Row> rows = new ArrayList<>();
         if(key != null){
-            rows.addAll(super.rows());
+            rows.addAll(super.rows(prefix, rowPool));
         }
         if(component.isAvailable()){
-            rows.addAll(component.rows());
+            rows.addAll(component.rows(fullKey(prefix), rowPool));
         }
         return rows;
     }
@@ -0,0 +1,154 @@
+package com.github.apigcc.core.description;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.apigcc.core.Context;
+import com.github.apigcc.core.common.ObjectMappers;
+import com.github.apigcc.core.schema.Row;
+import com.github.apigcc.core.schema.RowPool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 单个小节的展开预算，避免庞大的对象图生成过大的示例和表格
+ * 超出预算的对象以引用占位，不再展开，上限小于0时不限制
+ * 每个小节一份预算，请求和响应的表格共用行数
+ * 示例按需生成，回收后可能重新生成，每次生成时按小节预算的上限重新计数属性，结果保持一致
+ */
+public class Budget {
+
+    public static final String REFERENCE = "$ref";
+
+    /**
+     * 对象嵌套层数上限
+     */
+    private final int maxDepth;
+    /**
+     * 示例中的属性数上限
+     */
+    private final int maxFields;
+    /**
+     * 表格行数上限
+     */
+    private final int maxRows;
+
+    /**
+     * 生成的表格行放入的行池，为null时不共享
+     */
+    private final RowPool rowPool;
+
+    private int fields;
+    private int rows;
+
+    public Budget(int maxDepth, int maxFields, int maxRows) {
+        this(maxDepth, maxFields, maxRows, null);
+    }
+
+    public Budget(int maxDepth, int maxFields, int maxRows, RowPool rowPool) {
+        this.maxDepth = maxDepth;
+        this.maxFields = maxFields;
+        this.maxRows = maxRows;
+        this.rowPool = rowPool;
+    }
+
+    /**
+     * 不限制的预算
+     * @return
+     */
+    public static Budget unlimited() {
+        return new Budget(-1, -1, -1);
+    }
+
+    public static Budget of(Context context) {
+        return of(context, null);
+    }
+
+    /**
+     * 按配置的上限建立预算，表格行放入行池
+     * @param context
+     * @param rowPool
+     * @return
+     */
+    public static Budget of(Context context, RowPool rowPool) {
+        return new Budget(context.getTypeMaxDepth(), context.getTypeMaxFields(), context.getTypeMaxRows(), rowPool);
+    }
+
+    /**
+     * 生成示例使用的预算，上限与当前预算相同，属性重新计数
+     * @return
+     */
+    public Budget forSample() {
+        return new Budget(maxDepth, maxFields, maxRows);
+    }
+
+    public RowPool getRowPool() {
+        return rowPool;
+    }
+
+    public boolean isUnlimited() {
+        return maxDepth < 0 && maxFields < 0 && maxRows < 0;
+    }
+
+    public boolean isTooDeep(int depth) {
+        return maxDepth >= 0 && depth > maxDepth;
+    }
+
+    public boolean hasFields() {
+        return maxFields < 0 || fields < maxFields;
+    }
+
+    /**
+     * 占用一个属性
+     * @return false 预算已用完
+     */
+    public boolean useField() {
+        if (!hasFields()) {
+            return false;
+        }
+        fields++;
+        return true;
+    }
+
+    public boolean hasRows() {
+        return maxRows < 0 || rows < maxRows;
+    }
+
+    /**
+     * 在预算内取出表格行
+     * @param candidates
+     * @return
+     */
+    public List<Row> take(Collection<Row> candidates) {
+        List<Row> result = new ArrayList<>();
+        for (Row row : candidates) {
+            if (!hasRows()) {
+                break;
+            }
+            rows++;
+            result.add(row);
+        }
+        return result;
+    }
+
+    /**
+     * 类型的引用锚点
+     * @param type
+     * @return
+     */
+    public static String anchor(String type) {
+        return "#" + type;
+    }
+
+    /**
+     * 不再展开的对象的示例占位
+     * @param type
+     * @return
+     */
+    public static ObjectNode reference(String type) {
+        ObjectNode node = ObjectMappers.instance.createObjectNode();
+        node.put(REFERENCE, anchor(type));
+        return node;
+    }
+
+}
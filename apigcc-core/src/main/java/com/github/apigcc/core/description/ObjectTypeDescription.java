@@ -2,41 +2,49 @@ package com.github.apigcc.core.description;
 
 import com.github.apigcc.core.common.ObjectMappers;
 import com.github.apigcc.core.schema.Row;
+import com.github.apigcc.core.schema.RowPool;
+import com.github.apigcc.core.schema.Sample;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * 对象类型描述
+ * 示例值不随成员常驻内存，使用时按成员生成
+ */
 @Setter
 @Getter
 public class ObjectTypeDescription extends TypeDescription {
 
-    private ObjectNode value = ObjectMappers.instance.createObjectNode();
-
+    /**
+     * 共享时为只读列表，只能通过merge和add修改
+     */
+    @Setter(AccessLevel.NONE)
     protected List<TypeDescription> members = Lists.newArrayList();
 
+    /**
+     * members是否与其他描述共享，共享时修改前先复制
+     */
+    @Setter(AccessLevel.NONE)
+    private boolean shared;
+
     public void merge(ObjectTypeDescription other) {
-        value.setAll(other.getValue());
+        unshare();
         members.addAll(other.members);
     }
 
     public void add(TypeDescription component) {
+        unshare();
         members.add(component);
-        if (component.isPrimitive()) {
-            primitive(component.asPrimitive());
-        } else if (component.isString()) {
-            value.put(component.getKey(), component.asString().getValue());
-        } else if (component.isArray()) {
-            value.set(component.getKey(), component.asArray().getValue());
-        } else if (component.isObject()) {
-            value.set(component.getKey(), component.asObject().getValue());
-        }
     }
 
-    public void primitive(PrimitiveTypeDescription typeDescription) {
+    public static void primitive(ObjectNode value, PrimitiveTypeDescription typeDescription) {
         switch (typeDescription.getType()) {
             case "byte":
                 value.put(typeDescription.getKey(), (byte) typeDescription.getValue());
@@ -65,38 +73,127 @@ public class ObjectTypeDescription extends TypeDescription {
         }
     }
 
+    /**
+     * 生成完整示例，每次调用生成新的示例
+     * @return
+     */
+    public ObjectNode getValue() {
+        return sample(Budget.unlimited(), 0);
+    }
+
+    private void unshare() {
+        if (shared) {
+            members = Lists.newArrayList(members);
+            shared = false;
+        }
+    }
+
     @Override
-    public void setKey(String key) {
-        super.setKey(key);
-        String memberPrefix = fullKey();
+    public ObjectTypeDescription copy() {
+        if (!shared) {
+            members = Collections.unmodifiableList(members);
+            shared = true;
+        }
+        ObjectTypeDescription description = copyTo(new ObjectTypeDescription());
+        description.members = members;
+        description.shared = true;
+        return description;
+    }
+
+    /**
+     * 在预算内生成示例
+     * @param budget
+     * @return
+     */
+    public ObjectNode getValue(Budget budget) {
+        return sample(budget, 0);
+    }
+
+    /**
+     * 按需生成的示例，只引用当前描述及小节预算
+     * @param budget 小节预算
+     * @return
+     */
+    public Sample toSample(Budget budget) {
+        return Sample.of(() -> getValue(budget.forSample()));
+    }
+
+    /**
+     * 按成员组装示例，超出预算的对象以引用占位
+     * 同名成员以后加入的为准，位置保持首次加入时的位置
+     * @param budget
+     * @param depth 对象嵌套层数
+     * @return
+     */
+    ObjectNode sample(Budget budget, int depth) {
+        if (budget.isTooDeep(depth) || !budget.hasFields()) {
+            return Budget.reference(type);
+        }
+        ObjectNode node = ObjectMappers.instance.createObjectNode();
         for (TypeDescription member : members) {
-            if (member.isAvailable()) {
-                member.setPrefix(memberPrefix);
+            if (!member.isObject() && !member.isArray() && !member.isPrimitive() && !member.isString()) {
+                continue;
+            }
+            if (!budget.useField()) {
+                break;
+            }
+            if (member.isPrimitive()) {
+                primitive(node, member.asPrimitive());
+            } else if (member.isString()) {
+                node.put(member.getKey(), member.asString().getValue());
+            } else if (member.isArray()) {
+                node.set(member.getKey(), member.asArray().sample(budget, depth + 1));
+            } else {
+                node.set(member.getKey(), member.asObject().sample(budget, depth + 1));
             }
         }
+        return node;
     }
 
     @Override
-    public void setPrefix(String prefix) {
-        super.setPrefix(prefix);
-        String memberPrefix = fullKey();
+    public Collection<Row> rows(String prefix, Budget budget, int depth) {
+        RowPool rowPool = budget.getRowPool();
+        Collection<Row> rows = budget.take(super.rows(prefix, rowPool));
+        if (budget.isTooDeep(depth)) {
+            List<Row> anchors = Lists.newArrayListWithCapacity(rows.size());
+            for (Row row : rows) {
+                Row anchor = row.withDef(Budget.anchor(type));
+                anchors.add(rowPool == null ? anchor : rowPool.intern(anchor));
+            }
+            return anchors;
+        }
+        String memberPrefix = fullKey(prefix);
         for (TypeDescription member : members) {
+            if (!budget.hasRows()) {
+                break;
+            }
             if (member.isAvailable()) {
-                member.setPrefix(memberPrefix);
+                rows.addAll(member.rows(memberPrefix, budget, depth + 1));
             }
         }
+        return rows;
     }
 
-    public ObjectNode getValue() {
-        return value;
+    /**
+     * 共享的成员列表不再修改，同一路径下的成员行由行池只生成一次
+     */
+    @Override
+    public Collection<Row> rows(String prefix, RowPool rowPool) {
+        Collection<Row> rows = super.rows(prefix, rowPool);
+        String memberPrefix = fullKey(prefix);
+        if (rowPool != null && shared) {
+            rows.addAll(rowPool.rows(members, memberPrefix, () -> memberRows(memberPrefix, rowPool)));
+        } else {
+            rows.addAll(memberRows(memberPrefix, rowPool));
+        }
+        return rows;
     }
 
-    @Override
-    public Collection<Row> rows() {
-        Collection<Row> rows = super.rows();
+    private Collection<Row> memberRows(String memberPrefix, RowPool rowPool) {
+        Collection<Row> rows = Lists.newArrayList();
         for (TypeDescription member : members) {
             if (member.isAvailable()) {
-                rows.addAll(member.rows());
+                rows.addAll(member.rows(memberPrefix, rowPool));
             }
         }
         return rows;
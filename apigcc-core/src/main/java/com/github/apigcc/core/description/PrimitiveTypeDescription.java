@@ -6,6 +6,9 @@ import com.github.javaparser.resolution.types.ResolvedReferenceType;
 
 public class PrimitiveTypeDescription extends TypeDescription {
 
+    private PrimitiveTypeDescription(){
+    }
+
     public PrimitiveTypeDescription(ResolvedReferenceType referenceType){
         switch (referenceType.getId()){
             case "java.lang.Byte":
@@ -72,4 +75,9 @@ public class PrimitiveTypeDescription extends TypeDescription {
                 break;
         }
     }
+
+    @Override
+    public PrimitiveTypeDescription copy() {
+        return copyTo(new PrimitiveTypeDescription());
+    }
 }
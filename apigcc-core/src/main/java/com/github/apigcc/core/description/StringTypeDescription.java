@@ -10,4 +10,9 @@ public class StringTypeDescription extends TypeDescription {
     public String getValue(){
         return (String)value;
     }
+
+    @Override
+    public StringTypeDescription copy() {
+        return copyTo(new StringTypeDescription(type, getValue()));
+    }
 }
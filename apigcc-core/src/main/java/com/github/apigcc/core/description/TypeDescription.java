@@ -1,13 +1,16 @@
 package com.github.apigcc.core.description;
 
+import com.github.apigcc.core.common.SmallMap;
 import com.github.apigcc.core.schema.NodeWithComment;
 import com.github.apigcc.core.common.helper.StringHelper;
 import com.github.apigcc.core.schema.Row;
+import com.github.apigcc.core.schema.RowPool;
 import com.google.common.collect.Lists;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * 解析后的类型描述
@@ -16,7 +19,6 @@ import java.util.Collection;
 @Getter
 public abstract class TypeDescription extends NodeWithComment {
 
-    protected String prefix = "";
     protected String key = "";
     protected String type;
     protected StringBuilder condition = new StringBuilder();
@@ -102,12 +104,59 @@ public abstract class TypeDescription extends NodeWithComment {
         }
     }
 
-    public String fullKey(){
+    /**
+     * 在指定路径下的完整key
+     * @param prefix 上级路径
+     * @return
+     */
+    public String fullKey(String prefix){
         return StringHelper.join(".",prefix,key);
     }
 
     public Collection<Row> rows() {
-        String key = fullKey();
+        return rows("");
+    }
+
+    /**
+     * 在预算内生成表格行
+     * @param budget
+     * @return
+     */
+    public Collection<Row> rows(Budget budget) {
+        if (budget.isUnlimited()) {
+            return rows("", budget.getRowPool());
+        }
+        return rows("", budget, 0);
+    }
+
+    /**
+     * 在预算内生成表格行
+     * @param prefix 上级路径
+     * @param budget
+     * @param depth 对象嵌套层数
+     * @return
+     */
+    public Collection<Row> rows(String prefix, Budget budget, int depth) {
+        return budget.take(rows(prefix, budget.getRowPool()));
+    }
+
+    /**
+     * 生成表格行，字段路径在此时由上级路径计算，类型描述本身不保存路径
+     * @param prefix 上级路径
+     * @return
+     */
+    public Collection<Row> rows(String prefix) {
+        return rows(prefix, null);
+    }
+
+    /**
+     * 生成表格行，行放入行池
+     * @param prefix 上级路径
+     * @param rowPool 行池，为null时不共享
+     * @return
+     */
+    public Collection<Row> rows(String prefix, RowPool rowPool) {
+        String key = fullKey(prefix);
         if(StringHelper.isBlank(key)){
             return Lists.newArrayList();
         }
@@ -120,15 +169,41 @@ public abstract class TypeDescription extends NodeWithComment {
             def = "";
         }
 
+        String condition = this.condition.toString();
         if(required!=null){
-            condition.append("required=").append(required);
+            condition += "required=" + required;
         }
 
-        return Lists.newArrayList(new Row(key, type, condition.toString(), def, remark));
+        Row row = new Row(key, type, condition, def, remark);
+        return Lists.newArrayList(rowPool == null ? row : rowPool.intern(row));
     }
 
     @Override
     public void setComment(String content) {
         this.addRemark(content);
     }
+
+    /**
+     * 复制类型描述，复制后的描述本身可独立修改
+     * 成员、元素等下级描述构建后不再修改，复制时共享
+     * @return
+     */
+    public abstract TypeDescription copy();
+
+    /**
+     * 复制公共属性至目标描述
+     * @param target
+     * @return
+     */
+    protected <T extends TypeDescription> T copyTo(T target) {
+        target.key = key;
+        target.type = type;
+        target.condition = new StringBuilder(condition);
+        target.remark = remark;
+        target.value = value;
+        target.defaultValue = defaultValue;
+        target.required = required;
+        target.tags = tags.isEmpty() ? Collections.emptyMap() : new SmallMap<>(tags);
+        return target;
+    }
 }
@@ -1,6 +1,7 @@
 package com.github.apigcc.core.description;
 
 import com.github.apigcc.core.schema.Row;
+import com.github.apigcc.core.schema.RowPool;
 
 import java.util.Collection;
 
@@ -18,7 +19,12 @@ public class UnAvailableTypeDescription extends TypeDescription {
     }
 
     @Override
-    public Collection<Row> rows() {
+    public Collection<Row> rows(String prefix, RowPool rowPool) {
         throw new IllegalArgumentException("unAvailable type not support");
     }
+
+    @Override
+    public UnAvailableTypeDescription copy() {
+        return copyTo(new UnAvailableTypeDescription());
+    }
 }
@@ -0,0 +1,45 @@
+package com.github.apigcc.core.parser;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 解析前的源码文件快速筛选
+ * 只按文本查找解析策略的标记注解，命中的文件才进行完整的语法解析
+ */
+@Slf4j
+public class MarkerFilter implements Predicate<Path> {
+
+    private final Pattern pattern;
+
+    public MarkerFilter(Collection<String> markers) {
+        String names = markers.stream().map(Pattern::quote).collect(Collectors.joining("|"));
+        //匹配 @RestController 和 @org.springframework.web.bind.annotation.RestController
+        this.pattern = Pattern.compile("@\\s*(?:[\\w$]+\\s*\\.\\s*)*(?:" + names + ")\\b");
+    }
+
+    /**
+     * 文件是否可能包含标记注解
+     * 标记注解为ASCII字符，按ISO-8859-1读取，不受源码编码影响
+     * @param file
+     * @return 读取失败时返回true，交由完整解析处理
+     */
+    @Override
+    public boolean test(Path file) {
+        try {
+            return pattern.matcher(new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1)).find();
+        } catch (IOException e) {
+            log.warn("scan file {} error {}", file, e.getMessage());
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.github.apigcc.core.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.apigcc.core.common.ObjectMappers;
+import com.github.apigcc.core.common.helper.FileHelper;
+import com.github.apigcc.core.schema.Chapter;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 源码解析结果的磁盘缓存
+ * 以源码文件及其依赖的源码文件的hash作为缓存键，未变化的文件直接复用上次解析的章节
+ */
+@Slf4j
+public class ParseCache {
+
+    public static final String VERSION = "2";
+    public static final String EXTENSION = ".json";
+
+    private final ObjectMapper objectMapper = ObjectMappers.fields();
+
+    /**
+     * 缓存目录
+     */
+    private final Path path;
+
+    /**
+     * 解析环境标识，环境变化时缓存失效
+     */
+    private final String fingerprint;
+
+    /**
+     * 依赖源码目录，用于检查解析失败的类型是否已新增源码
+     */
+    private final List<Path> roots;
+
+    /**
+     * 本次运行中已计算的文件hash
+     */
+    private final Map<Path, Optional<String>> hashes = new ConcurrentHashMap<>();
+
+    public ParseCache(Path path, String fingerprint, List<Path> roots) {
+        this.path = path;
+        this.fingerprint = VERSION + ":" + fingerprint;
+        this.roots = roots;
+    }
+
+    /**
+     * 获取未失效的缓存
+     * @param file 源码文件
+     * @return
+     */
+    public Optional<List<Chapter>> get(Path file) {
+        Path entryFile = entryFile(file);
+        if (!Files.exists(entryFile)) {
+            return Optional.empty();
+        }
+        try {
+            ParseCacheEntry entry = objectMapper.readValue(entryFile.toFile(), ParseCacheEntry.class);
+            if (!Objects.equals(fingerprint, entry.getFingerprint())) {
+                return Optional.empty();
+            }
+            if (!Objects.equals(hash(file), Optional.ofNullable(entry.getHash()))) {
+                return Optional.empty();
+            }
+            for (Map.Entry<String, String> dependency : entry.getDependencies().entrySet()) {
+                if (!Objects.equals(hash(Path.of(dependency.getKey())), Optional.ofNullable(dependency.getValue()))) {
+                    return Optional.empty();
+                }
+            }
+            for (String name : entry.getMissing()) {
+                if (exists(name)) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(entry.getChapters());
+        } catch (IOException e) {
+            log.warn("read parse cache {} error {}", entryFile, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 保存源码文件的解析结果
+     * @param file 源码文件
+     * @param chapters 解析得到的章节
+     * @param dependencies 依赖的源码文件
+     * @param unsolved 解析失败的类型可能对应的类名
+     */
+    public void put(Path file, List<Chapter> chapters, Collection<Path> dependencies, Collection<String> unsolved) {
+        Optional<String> hash = hash(file);
+        if (!hash.isPresent()) {
+            return;
+        }
+        ParseCacheEntry entry = new ParseCacheEntry();
+        entry.setFingerprint(fingerprint);
+        entry.setHash(hash.get());
+        entry.setChapters(chapters);
+        for (Path dependency : dependencies) {
+            Optional<String> dependencyHash = hash(dependency);
+            if (!dependencyHash.isPresent()) {
+                return;
+            }
+            entry.getDependencies().put(dependency.toAbsolutePath().normalize().toString(), dependencyHash.get());
+        }
+        for (String name : unsolved) {
+            if (!exists(name)) {
+                entry.getMissing().add(name);
+            }
+        }
+        try {
+            FileHelper.write(entryFile(file), objectMapper.writeValueAsString(entry));
+        } catch (IOException | RuntimeException e) {
+            log.warn("write parse cache {} error {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 依赖源码目录下是否存在该类的源码文件
+     * @param name 完整类名
+     * @return
+     */
+    private boolean exists(String name) {
+        String file = name.replace('.', '/') + ".java";
+        for (Path root : roots) {
+            if (Files.exists(root.resolve(file))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Path entryFile(Path file) {
+        String key = file.toAbsolutePath().normalize().toString();
+        return path.resolve(Hashing.sha256().hashString(key, StandardCharsets.UTF_8) + EXTENSION);
+    }
+
+    private Optional<String> hash(Path file) {
+        return hashes.computeIfAbsent(file.toAbsolutePath().normalize(), FileHelper::hash);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.github.apigcc.core.parser;
+
+import com.github.apigcc.core.schema.Chapter;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单个源码文件的解析缓存
+ */
+@Setter
+@Getter
+public class ParseCacheEntry {
+
+    /**
+     * 解析环境标识，如解析框架、url前缀
+     */
+    String fingerprint;
+
+    /**
+     * 源码文件的hash
+     */
+    String hash;
+
+    /**
+     * 依赖的源码文件及其hash
+     */
+    Map<String, String> dependencies = new LinkedHashMap<>();
+
+    /**
+     * 解析失败且当时不存在源码的类名，之后出现源码时缓存失效
+     */
+    List<String> missing = new ArrayList<>();
+
+    /**
+     * 源码文件解析得到的章节
+     */
+    List<Chapter> chapters = new ArrayList<>();
+
+}
@@ -5,6 +5,9 @@ import com.github.apigcc.core.schema.Section;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 
+import java.util.Collection;
+import java.util.Collections;
+
 public interface ParserStrategy {
 
     /**
@@ -18,6 +21,15 @@ public interface ParserStrategy {
      */
     void onLoad();
 
+    /**
+     * 需要解析的类的标记注解名称
+     * 解析前以此快速筛选源码文件，为空时不筛选
+     * @return
+     */
+    default Collection<String> markers() {
+        return Collections.emptyList();
+    }
+
     /**
      * 判断是否为需要解析的类
      *
@@ -0,0 +1,96 @@
+package com.github.apigcc.core.parser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.apigcc.core.common.ObjectMappers;
+import com.github.apigcc.core.schema.Project;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 解析结果的快照文件
+ * 保存解析得到的Project，之后可直接从快照渲染，不再重新解析源码
+ * 文件由魔数、版本号、源码及解析环境标识和压缩后的Project组成，版本或标识不一致时快照失效
+ */
+@Slf4j
+public class ProjectSnapshot {
+
+    public static final int VERSION = 3;
+    public static final String EXTENSION = ".snapshot";
+
+    private static final byte[] MAGIC = {'A', 'P', 'I', 'G', 'C', 'C'};
+
+    private static final ObjectMapper objectMapper = ObjectMappers.fields();
+
+    /**
+     * 保存快照
+     * @param project
+     * @param fingerprint 源码及解析环境标识
+     * @param file 快照文件
+     */
+    public static void write(Project project, String fingerprint, Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                out.write(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(fingerprint);
+                GZIPOutputStream gzip = new GZIPOutputStream(out);
+                objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(gzip, project);
+                gzip.finish();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write snapshot " + file, e);
+        }
+    }
+
+    /**
+     * 读取快照
+     * @param file 快照文件
+     * @param fingerprint 当前的源码及解析环境标识
+     * @return 文件不存在、格式、版本或标识不一致时为空
+     */
+    public static Optional<Project> read(Path file, String fingerprint) {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                log.warn("read snapshot {} error {}", file, "not a snapshot file");
+                return Optional.empty();
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                log.warn("read snapshot {} error {}", file, "unsupported version " + version);
+                return Optional.empty();
+            }
+            if (!Objects.equals(fingerprint, in.readUTF())) {
+                log.warn("read snapshot {} error {}", file, "sources or settings changed");
+                return Optional.empty();
+            }
+            Project project = objectMapper.readValue(new GZIPInputStream(in), Project.class);
+            project.internRows();
+            return Optional.of(project);
+        } catch (IOException e) {
+            log.warn("read snapshot {} error {}", file, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+}
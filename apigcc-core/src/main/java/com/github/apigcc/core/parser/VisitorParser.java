@@ -1,6 +1,7 @@
 package com.github.apigcc.core.parser;
 
 import com.github.apigcc.core.Apigcc;
+import com.github.apigcc.core.description.Budget;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.apigcc.core.common.helper.OptionalHelper;
 import com.github.apigcc.core.common.helper.StringHelper;
@@ -48,6 +49,8 @@ public class VisitorParser extends VoidVisitorAdapter<Node> {
             section.setId(n.getNameAsString());
             section.setName(n.getNameAsString());
             section.setIndex(chapter.getSections().size());
+            Apigcc apigcc = Apigcc.getInstance();
+            section.setBudget(Budget.of(apigcc.getContext(), apigcc.getProject().getRowPool()));
             n.getComment().ifPresent(section::accept);
 
             parserStrategy.visit(n, chapter, section);
@@ -78,14 +81,15 @@ public class VisitorParser extends VoidVisitorAdapter<Node> {
         }
         TypeDescription description = Apigcc.getInstance().getTypeResolvers().resolve(n.getType());
         if(description.isAvailable()){
+            Budget budget = section.getBudget();
             if(description.isPrimitive() || description.isString()){
                 section.setRawResponse(description.getValue());
             }else if(description.isArray()){
-                section.setResponse(description.asArray().getValue());
+                section.setResponse(description.asArray().toSample(budget));
             }else if(description.isObject()){
-                section.setResponse(description.asObject().getValue());
+                section.setResponse(description.asObject().toSample(budget));
             }
-            section.addResponseRows(description.rows());
+            section.addResponseRows(description.rows(budget));
         }
     }
 
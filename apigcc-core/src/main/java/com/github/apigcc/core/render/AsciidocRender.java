@@ -16,7 +16,6 @@ import org.asciidoctor.jruby.AsciiDocDirectoryWalker;
 
 import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * 构建并渲染adoc文档
@@ -31,6 +30,12 @@ public class AsciidocRender implements ProjectRender {
 
     @Override
     public void render(Project project) {
+        render(RenderPlan.of(project, Apigcc.getInstance().getExtConfig()));
+    }
+
+    @Override
+    public void render(RenderPlan plan) {
+        Project project = plan.getProject();
 
         Path buildPath = Apigcc.getInstance().getContext().getBuildPath();
         Path projectBuildPath = buildPath.resolve(project.getId());
@@ -38,9 +43,8 @@ public class AsciidocRender implements ProjectRender {
 
         final Boolean mergeToOneFile = Optional.ofNullable(Apigcc.getInstance().getExtConfig().getMergeToOneFile()).orElse(Boolean.FALSE);
 
-        for (Map.Entry<String, Book> entry : project.getBooks().entrySet()) {
-            String name = entry.getKey();
-            Book book = entry.getValue();
+        for (RenderPlan.BookPlan bookPlan : plan.getBooks()) {
+            String name = bookPlan.getName();
             MarkupBuilder builder = MarkupBuilder.getInstance();
             String displayName = project.getName();
             if (!Objects.equals(Book.DEFAULT, name)) {
@@ -51,20 +55,11 @@ public class AsciidocRender implements ProjectRender {
                 builder.paragraph("version:" + project.getVersion());
             }
             builder.paragraph(project.getDescription());
-            for (Chapter chapter : book.getChapters().stream().sorted().collect(Collectors.toList())) {
-                if (chapter.isIgnore() || chapter.getSections().isEmpty()) {
-                    continue;
-                }
-                Set<Section> sectionSet = chapter.getSections().stream().filter(this::shouldRender).collect(Collectors.toSet());
-                if (sectionSet.isEmpty()) {
-                    continue;
-                }
+            for (RenderPlan.ChapterPlan chapterPlan : bookPlan.getChapters()) {
+                Chapter chapter = chapterPlan.getChapter();
                 builder.title(1, chapter.getName());
                 builder.paragraph(chapter.getDescription());
-                for (Section section : sectionSet.stream().sorted().collect(Collectors.toList())) {
-                    if (section.isIgnore()) {
-                        continue;
-                    }
+                for (Section section : chapterPlan.getSections()) {
                     builder.title(2, section.getName());
                     builder.paragraph(section.getDescription());
 
@@ -9,8 +9,6 @@ import com.github.apigcc.core.schema.*;
 import lombok.extern.slf4j.Slf4j;
 
 import java.nio.file.Path;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Postman v2.1 json文件构建
@@ -20,7 +18,12 @@ public class PostmanRender implements ProjectRender {
 
     @Override
     public void render(Project project) {
-        Postman postman = build(project);
+        render(RenderPlan.of(project, Apigcc.getInstance().getExtConfig()));
+    }
+
+    @Override
+    public void render(RenderPlan plan) {
+        Postman postman = build(plan);
         String id = Apigcc.getInstance().getContext().getId();
         Path buildPath = Apigcc.getInstance().getContext().getBuildPath();
         Path file = buildPath.resolve(id).resolve(id + "_postman_v2_1.json");
@@ -28,7 +31,8 @@ public class PostmanRender implements ProjectRender {
         log.info("Build Postman {}", file);
     }
 
-    private Postman build(Project project) {
+    private Postman build(RenderPlan plan) {
+        Project project = plan.getProject();
         Postman postman = new Postman();
         Info info = new Info();
         info.set_postman_id(project.getId());
@@ -36,24 +40,15 @@ public class PostmanRender implements ProjectRender {
         info.setDescription(project.getDescription());
         postman.setInfo(info);
 
-        for (Book book : project.getBooks().values()) {
+        for (RenderPlan.BookPlan bookPlan : plan.getBooks()) {
             Folder folder = new Folder();
-            folder.setName(book.getId());
-            for (Chapter chapter : book.getChapters()) {
-                if(chapter.isIgnore() || chapter.getSections().isEmpty()){
-                    continue;
-                }
-                Set<Section> sectionSet = chapter.getSections().stream().filter(this::shouldRender).collect(Collectors.toSet());
-                if (sectionSet.isEmpty()) {
-                    continue;
-                }
+            folder.setName(bookPlan.getBook().getId());
+            for (RenderPlan.ChapterPlan chapterPlan : bookPlan.getChapters()) {
+                Chapter chapter = chapterPlan.getChapter();
                 Folder chapterFolder = new Folder();
                 chapterFolder.setName(chapter.getName());
                 chapterFolder.setDescription(chapter.getDescription());
-                for (Section section : chapter.getSections()) {
-                    if(section.isIgnore()){
-                        continue;
-                    }
+                for (Section section : chapterPlan.getSections()) {
                     chapterFolder.getItem().add(build(section));
                 }
                 folder.getItem().add(chapterFolder);
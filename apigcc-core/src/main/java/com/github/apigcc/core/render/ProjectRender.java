@@ -3,26 +3,24 @@ package com.github.apigcc.core.render;
 import com.github.apigcc.core.Apigcc;
 import com.github.apigcc.core.schema.Project;
 import com.github.apigcc.core.schema.Section;
-import org.springframework.http.server.PathContainer;
-import org.springframework.web.util.pattern.PathPattern;
-
-import java.util.List;
 
 public interface ProjectRender {
 
     void render(Project project);
 
+    /**
+     * 渲染已筛选、排序的内容
+     * 默认按Project渲染，兼容只实现render(Project)的渲染器
+     * @param plan
+     */
+    default void render(RenderPlan plan) {
+        render(plan.getProject());
+    }
+
     /**
      * 有only只以only为准，否则以exclude为准
      */
     default boolean shouldRender(Section section) {
-        List<PathPattern> list = Apigcc.getInstance().getExtConfig().getUrlOnlyPatternList();
-        PathContainer parsePath = PathContainer.parsePath(section.getUri());
-        if (list.isEmpty()) {
-            return Apigcc.getInstance().getExtConfig().getUrlExcludePatternList().stream().noneMatch(pathPattern -> pathPattern.matches(parsePath));
-        } else {
-            return list.stream().anyMatch(pathPattern -> pathPattern.matches(parsePath));
-        }
-
+        return RenderPlan.shouldRender(Apigcc.getInstance().getExtConfig(), section);
     }
 }
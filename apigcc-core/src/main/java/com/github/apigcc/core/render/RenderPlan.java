@@ -0,0 +1,126 @@
+package com.github.apigcc.core.render;
+
+import com.github.apigcc.core.ExtConfig;
+import com.github.apigcc.core.schema.Book;
+import com.github.apigcc.core.schema.Chapter;
+import com.github.apigcc.core.schema.Project;
+import com.github.apigcc.core.schema.Section;
+import lombok.Getter;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 待渲染的内容
+ * 渲染前按url筛选一次，书籍、章节、接口已按顺序排列，各ProjectRender共用
+ */
+@Getter
+public class RenderPlan {
+
+    private final Project project;
+    private final List<BookPlan> books;
+
+    private RenderPlan(Project project, List<BookPlan> books) {
+        this.project = project;
+        this.books = books;
+    }
+
+    /**
+     * 按url配置筛选接口
+     * @param project
+     * @param extConfig 为null时不筛选
+     * @return
+     */
+    public static RenderPlan of(Project project, ExtConfig extConfig) {
+        return of(project, section -> shouldRender(extConfig, section));
+    }
+
+    /**
+     * 忽略的章节、没有符合条件接口的章节不渲染，忽略的接口不渲染
+     * Book.chapters、Chapter.sections本身有序，按原顺序保留
+     * @param project
+     * @param filter 接口筛选条件
+     * @return
+     */
+    public static RenderPlan of(Project project, Predicate<Section> filter) {
+        List<BookPlan> books = new ArrayList<>(project.getBooks().size());
+        for (Map.Entry<String, Book> entry : project.getBooks().entrySet()) {
+            List<ChapterPlan> chapters = new ArrayList<>(entry.getValue().getChapters().size());
+            for (Chapter chapter : entry.getValue().getChapters()) {
+                if (chapter.isIgnore() || chapter.getSections().isEmpty()) {
+                    continue;
+                }
+                boolean matched = false;
+                List<Section> sections = new ArrayList<>(chapter.getSections().size());
+                for (Section section : chapter.getSections()) {
+                    if (!filter.test(section)) {
+                        continue;
+                    }
+                    matched = true;
+                    if (!section.isIgnore()) {
+                        sections.add(section);
+                    }
+                }
+                if (matched) {
+                    chapters.add(new ChapterPlan(chapter, Collections.unmodifiableList(sections)));
+                }
+            }
+            books.add(new BookPlan(entry.getKey(), entry.getValue(), Collections.unmodifiableList(chapters)));
+        }
+        return new RenderPlan(project, Collections.unmodifiableList(books));
+    }
+
+    /**
+     * 有only只以only为准，否则以exclude为准
+     */
+    public static boolean shouldRender(ExtConfig extConfig, Section section) {
+        if (extConfig == null) {
+            return true;
+        }
+        List<PathPattern> list = extConfig.getUrlOnlyPatternList();
+        PathContainer parsePath = PathContainer.parsePath(section.getUri());
+        if (list.isEmpty()) {
+            return extConfig.getUrlExcludePatternList().stream().noneMatch(pathPattern -> pathPattern.matches(parsePath));
+        } else {
+            return list.stream().anyMatch(pathPattern -> pathPattern.matches(parsePath));
+        }
+    }
+
+    /**
+     * 书籍及其待渲染的章节
+     */
+    @Getter
+    public static class BookPlan {
+
+        private final String name;
+        private final Book book;
+        private final List<ChapterPlan> chapters;
+
+        private BookPlan(String name, Book book, List<ChapterPlan> chapters) {
+            this.name = name;
+            this.book = book;
+            this.chapters = chapters;
+        }
+    }
+
+    /**
+     * 章节及其待渲染的接口
+     */
+    @Getter
+    public static class ChapterPlan {
+
+        private final Chapter chapter;
+        private final List<Section> sections;
+
+        private ChapterPlan(Chapter chapter, List<Section> sections) {
+            this.chapter = chapter;
+            this.sections = sections;
+        }
+    }
+
+}
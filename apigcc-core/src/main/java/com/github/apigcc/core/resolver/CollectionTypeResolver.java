@@ -6,13 +6,13 @@ import com.github.apigcc.core.description.TypeDescription;
 import com.github.apigcc.core.description.UnAvailableTypeDescription;
 import com.github.apigcc.core.common.helper.ClassHelper;
 import com.github.javaparser.resolution.types.ResolvedType;
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import java.util.*;
 
 public class CollectionTypeResolver extends ReferenceTypeResolver {
 
-    private static final ImmutableList<String> list = ImmutableList.of(
+    private static final ImmutableSet<String> list = ImmutableSet.of(
             List.class.getName(),
             Collection.class.getName(),
             ArrayList.class.getName(),
@@ -36,4 +36,8 @@ public class CollectionTypeResolver extends ReferenceTypeResolver {
                 .orElseGet(UnAvailableTypeDescription::new));
     }
 
+    @Override
+    public Collection<String> acceptIds() {
+        return list;
+    }
 }
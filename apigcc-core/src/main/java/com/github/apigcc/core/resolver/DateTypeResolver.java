@@ -3,16 +3,17 @@ package com.github.apigcc.core.resolver;
 import com.github.apigcc.core.description.StringTypeDescription;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.javaparser.resolution.types.ResolvedType;
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.Date;
 
 public class DateTypeResolver extends ReferenceTypeResolver {
 
-    private static final ImmutableList<String> list = ImmutableList.of(
+    private static final ImmutableSet<String> list = ImmutableSet.of(
             Date.class.getName(),
             LocalDateTime.class.getName(),
             LocalDate.class.getName(),
@@ -29,4 +30,9 @@ public class DateTypeResolver extends ReferenceTypeResolver {
         //TODO Date 默认值
         return new StringTypeDescription(type.asReferenceType().getTypeDeclaration().getName(), "");
     }
+
+    @Override
+    public Collection<String> acceptIds() {
+        return list;
+    }
 }
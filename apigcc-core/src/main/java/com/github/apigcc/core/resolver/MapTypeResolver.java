@@ -3,7 +3,7 @@ package com.github.apigcc.core.resolver;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.apigcc.core.description.UnAvailableTypeDescription;
 import com.github.javaparser.resolution.types.ResolvedType;
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import java.util.*;
 
@@ -12,7 +12,7 @@ import java.util.*;
  */
 public class MapTypeResolver extends ReferenceTypeResolver {
 
-    private static final ImmutableList<String> list = ImmutableList.of(
+    private static final ImmutableSet<String> list = ImmutableSet.of(
             Map.class.getName(),
             HashMap.class.getName(),
             Hashtable.class.getName(),
@@ -31,4 +31,8 @@ public class MapTypeResolver extends ReferenceTypeResolver {
         return new UnAvailableTypeDescription();
     }
 
+    @Override
+    public Collection<String> acceptIds() {
+        return list;
+    }
 }
@@ -4,9 +4,11 @@ import com.github.apigcc.core.Apigcc;
 import com.github.apigcc.core.description.ObjectTypeDescription;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.apigcc.core.common.helper.*;
+import com.github.javaparser.resolution.UnsolvedSymbolException;
 import com.github.javaparser.resolution.declarations.ResolvedFieldDeclaration;
 import com.github.javaparser.resolution.types.ResolvedReferenceType;
 import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.javassistmodel.JavassistFieldDeclaration;
 
 /**
  * 普通类型解析
@@ -29,12 +31,11 @@ public class ObjectTypeResolver implements TypeResolver {
             return typeDescription;
         }
 
-        //解析父类属性，并合并至当前
-        for (ResolvedReferenceType directAncestor : referenceType.getDirectAncestors()) {
-            TypeDescription ancestorDescription = Apigcc.getInstance().getTypeResolvers().resolve(directAncestor);
-            if (ancestorDescription.isAvailable() && ancestorDescription.isObject()) {
-                typeDescription.merge(ancestorDescription.asObject());
-            }
+        TypeBindings bindings = TypeBindings.of(referenceType);
+
+        //父类属性展开后合并至当前
+        for (TypeAncestors.InheritedField inheritedField : TypeAncestors.fields(referenceType, bindings)) {
+            typeDescription.add(resolveField(inheritedField.getDeclaration(), inheritedField.getType()));
         }
 
         //TODO fix use access method
@@ -42,21 +43,45 @@ public class ObjectTypeResolver implements TypeResolver {
             if (declaredField.isStatic()) {
                 continue;
             }
-            ResolvedType fieldType = FieldHelper.getActuallyType(referenceType, declaredField);
-
-            TypeDescription fieldDescription = Apigcc.getInstance().getTypeResolvers().resolve(fieldType);
-            fieldDescription.setKey(declaredField.getName());
-
-            JsonPropertyHelper.getJsonName(declaredField).ifPresent(fieldDescription::setKey);
-            CommentHelper.getComment(declaredField).ifPresent(fieldDescription::accept);
-            fieldDescription.addConditions(ValidationHelper.getValidations(declaredField));
-            FieldHelper.getInitializerValue(declaredField).ifPresent(fieldDescription::setDefaultValue);
-
-            typeDescription.add(fieldDescription);
+            typeDescription.add(resolveField(declaredField, bindings));
         }
 
         ReferenceContext.getInstance().remove(referenceType.describe());
         return typeDescription;
     }
 
+    /**
+     * 解析声明的属性
+     * jar包中的属性类型无法解析时只忽略该属性
+     * @param declaredField
+     * @param bindings 当前类型的泛型绑定
+     * @return
+     */
+    private TypeDescription resolveField(ResolvedFieldDeclaration declaredField, TypeBindings bindings) {
+        ResolvedType fieldType;
+        try {
+            fieldType = FieldHelper.getActuallyType(bindings, declaredField);
+        } catch (UnsolvedSymbolException e) {
+            if (!(declaredField instanceof JavassistFieldDeclaration)) {
+                throw e;
+            }
+            return Apigcc.getInstance().getTypeResolvers().unsolved(e.getName());
+        }
+        return resolveField(declaredField, fieldType);
+    }
+
+    /**
+     * 解析属性
+     * @param declaredField
+     * @param fieldType 代入泛型参数后的属性类型
+     * @return
+     */
+    private TypeDescription resolveField(ResolvedFieldDeclaration declaredField, ResolvedType fieldType) {
+        TypeDescription fieldDescription = Apigcc.getInstance().getTypeResolvers().resolve(fieldType);
+        fieldDescription.setKey(declaredField.getName());
+
+        FieldMetadata.of(declaredField).applyTo(fieldDescription);
+        return fieldDescription;
+    }
+
 }
\ No newline at end of file
@@ -3,14 +3,16 @@ package com.github.apigcc.core.resolver;
 import com.github.apigcc.core.description.PrimitiveTypeDescription;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.javaparser.resolution.types.ResolvedType;
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Collection;
 
 /**
  * 基础类型解析
  */
 public class PrimitiveTypeResolver implements TypeResolver {
 
-    private final static ImmutableList<String> list = ImmutableList.of(
+    private final static ImmutableSet<String> list = ImmutableSet.of(
             Boolean.class.getName(),
             Character.class.getName(),
             Double.class.getName(),
@@ -49,4 +51,8 @@ public class PrimitiveTypeResolver implements TypeResolver {
         return list.contains(id);
     }
 
+    @Override
+    public Collection<String> acceptIds() {
+        return list;
+    }
 }
@@ -3,11 +3,13 @@ package com.github.apigcc.core.resolver;
 import com.github.apigcc.core.description.StringTypeDescription;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.javaparser.resolution.types.ResolvedType;
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Collection;
 
 public class StringTypeResolver extends ReferenceTypeResolver {
 
-    private static final ImmutableList list = ImmutableList.of(
+    private static final ImmutableSet<String> list = ImmutableSet.of(
             String.class.getName(),
             CharSequence.class.getName()
     );
@@ -22,4 +24,8 @@ public class StringTypeResolver extends ReferenceTypeResolver {
         return new StringTypeDescription("String", "");
     }
 
+    @Override
+    public Collection<String> acceptIds() {
+        return list;
+    }
 }
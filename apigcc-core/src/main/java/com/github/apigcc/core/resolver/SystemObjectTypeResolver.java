@@ -3,8 +3,14 @@ package com.github.apigcc.core.resolver;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.apigcc.core.description.UnAvailableTypeDescription;
 import com.github.javaparser.resolution.types.ResolvedType;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Collection;
 
 public class SystemObjectTypeResolver extends ReferenceTypeResolver {
+
+    private static final ImmutableSet<String> PREFIXES = ImmutableSet.of("java", "sun");
+
     @Override
     public boolean accept(ResolvedType type) {
         return super.accept(type) && isSystem(type);
@@ -15,8 +21,13 @@ public class SystemObjectTypeResolver extends ReferenceTypeResolver {
         return new UnAvailableTypeDescription();
     }
 
+    @Override
+    public Collection<String> acceptPrefixes() {
+        return PREFIXES;
+    }
+
     private static boolean isSystem(ResolvedType type) {
         String id = type.asReferenceType().getId();
-        return id.startsWith("java") || id.startsWith("sun");
+        return PREFIXES.stream().anyMatch(id::startsWith);
     }
 }
@@ -0,0 +1,69 @@
+package com.github.apigcc.core.resolver;
+
+import com.github.apigcc.core.common.helper.DependencyContext;
+import com.github.apigcc.core.common.helper.ReferenceContext;
+import com.github.apigcc.core.description.TypeDescription;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 类型描述缓存
+ * 以包含类型参数的完整类型为键，相同类型只解析一次，每次获取返回独立的副本
+ * 存在循环引用时，解析结果与外层正在解析的类型有关：
+ * 只缓存不受外层影响的结果，且仅在其引用的类型都不在解析中时复用
+ */
+public class TypeDescriptionCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 获取可复用的类型描述副本
+     * @param key
+     * @return
+     */
+    public Optional<TypeDescription> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        ReferenceContext referenceContext = ReferenceContext.getInstance();
+        if (!Collections.disjoint(entry.references, referenceContext.getValues())) {
+            return Optional.empty();
+        }
+        referenceContext.replay(entry.references);
+        DependencyContext.getInstance().replay(entry.dependencies);
+        return Optional.of(entry.description.copy());
+    }
+
+    /**
+     * 缓存类型描述的副本
+     * @param key
+     * @param description
+     * @param frame 解析期间的引用记录
+     * @param dependencies 解析期间依赖的源码文件及解析失败的类名
+     */
+    public void put(String key, TypeDescription description, ReferenceContext.Frame frame, DependencyContext.Frame dependencies) {
+        if (frame.isIndependent()) {
+            entries.putIfAbsent(key, new Entry(description.copy(), frame.getValues(), dependencies));
+        }
+    }
+
+    private static class Entry {
+
+        private final TypeDescription description;
+        private final Set<Object> references;
+        private final DependencyContext.Frame dependencies;
+
+        private Entry(TypeDescription description, Set<Object> references, DependencyContext.Frame dependencies) {
+            this.description = description;
+            this.references = references;
+            this.dependencies = dependencies;
+        }
+
+    }
+
+}
@@ -3,6 +3,9 @@ package com.github.apigcc.core.resolver;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.javaparser.resolution.types.ResolvedType;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * 类型解析
  */
@@ -12,4 +15,21 @@ public interface TypeResolver {
 
     TypeDescription resolve(ResolvedType type);
 
+    /**
+     * 可接受的引用类型id，用于按id索引解析器
+     * 声明后，accept对其他id的引用类型须返回false；都为空时不限定
+     * @return
+     */
+    default Collection<String> acceptIds() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * 可接受的引用类型id前缀，规则同acceptIds
+     * @return
+     */
+    default Collection<String> acceptPrefixes() {
+        return Collections.emptySet();
+    }
+
 }
@@ -3,17 +3,38 @@ package com.github.apigcc.core.resolver;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.apigcc.core.description.UnAvailableTypeDescription;
 import com.github.apigcc.core.common.helper.ClassHelper;
+import com.github.apigcc.core.common.helper.CompilationUnitHelper;
+import com.github.apigcc.core.common.helper.ImportIndex;
+import com.github.apigcc.core.common.helper.DependencyContext;
+import com.github.apigcc.core.common.helper.ReferenceContext;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.Type;
 import com.github.javaparser.resolution.UnsolvedSymbolException;
 import com.github.javaparser.resolution.types.ResolvedType;
 import com.google.common.collect.Lists;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 @Slf4j
 public class TypeResolvers {
 
+    /**
+     * 名称解析结果的缓存键前缀
+     */
+    private static final String UNSOLVED_PREFIX = "?";
+
     /**
      * 最终进行的类型解析器
      */
@@ -37,6 +58,27 @@ public class TypeResolvers {
 
     private List<NameResolver> nameResolvers = Lists.newArrayList();
 
+    /**
+     * 引用类型id对应的候选解析器，保持解析器顺序
+     * 同一id只按acceptIds、acceptPrefixes筛选一次
+     */
+    private Map<String, List<TypeResolver>> index = new ConcurrentHashMap<>();
+
+    /**
+     * 已解析的类型描述
+     */
+    private TypeDescriptionCache cache = new TypeDescriptionCache();
+
+    /**
+     * 符号解析失败的类型及出现次数，再次出现时直接使用名称解析
+     */
+    private Map<String, AtomicInteger> unsolved = new ConcurrentHashMap<>();
+
+    /**
+     * 已提示过名称解析失败的类型
+     */
+    private Set<String> failed = ConcurrentHashMap.newKeySet();
+
     /**
      * 获取类型信息
      *
@@ -44,12 +86,20 @@ public class TypeResolvers {
      * @return
      */
     public TypeDescription resolve(Type type) {
+        String key = unsolvedKey(type);
+        AtomicInteger count = unsolved.get(key);
+        if (count != null) {
+            //已知解析失败的类型，不再尝试符号解析
+            count.incrementAndGet();
+            return resolveUnsolved(type, key);
+        }
         try {
             ResolvedType resolvedType = type.resolve();
             return resolve(resolvedType);
         } catch (UnsolvedSymbolException e) {
             //解析失败时，尝试降级，使用名称解析
-            return resolveByName(type);
+            unsolved.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            return resolveUnsolved(type, key);
         } catch (Exception e) {
             log.error(e.getMessage(), e);
         }
@@ -58,12 +108,63 @@ public class TypeResolvers {
 
     /**
      * 解析类型信息
+     * 引用类型的解析结果按完整类型缓存
      *
      * @param type
      * @return
      */
     public TypeDescription resolve(ResolvedType type) {
-        for (TypeResolver typeResolver : resolvers) {
+        if (!type.isReferenceType()) {
+            return resolveUncached(type);
+        }
+        return cached(type.describe(), () -> resolveUncached(type));
+    }
+
+    /**
+     * 解析符号解析失败的类型，降级为名称解析
+     * 名称解析的结果按unsolvedKey缓存，与符号解析的结果区分
+     *
+     * @param type
+     * @param key
+     * @return
+     */
+    private TypeDescription resolveUnsolved(Type type, String key) {
+        DependencyContext.getInstance().recordUnsolved(candidateNames(type));
+        return cached(UNSOLVED_PREFIX + key, () -> resolveByName(type));
+    }
+
+    /**
+     * 优先复用缓存的类型描述，未命中时解析并记录期间的引用及依赖
+     *
+     * @param key
+     * @param resolver
+     * @return
+     */
+    private TypeDescription cached(String key, Supplier<TypeDescription> resolver) {
+        Optional<TypeDescription> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ReferenceContext.getInstance().begin();
+        DependencyContext.getInstance().begin();
+        TypeDescription description;
+        ReferenceContext.Frame frame;
+        DependencyContext.Frame dependencies;
+        try {
+            description = resolver.get();
+        } finally {
+            frame = ReferenceContext.getInstance().end();
+            dependencies = DependencyContext.getInstance().end();
+        }
+        cache.put(key, description, frame, dependencies);
+        return description;
+    }
+
+    private TypeDescription resolveUncached(ResolvedType type) {
+        if (type.isReferenceType()) {
+            DependencyContext.getInstance().record(type.asReferenceType().getTypeDeclaration());
+        }
+        for (TypeResolver typeResolver : candidates(type)) {
             if (typeResolver.accept(type)) {
                 return typeResolver.resolve(type);
             }
@@ -76,6 +177,49 @@ public class TypeResolvers {
         return new UnAvailableTypeDescription();
     }
 
+    /**
+     * 是否按属性解析的普通类型，即没有其他解析器接受该类型
+     * @param type
+     * @return
+     */
+    public boolean isObject(ResolvedType type) {
+        for (TypeResolver typeResolver : candidates(type)) {
+            if (typeResolver.accept(type)) {
+                return false;
+            }
+        }
+        return finalTypeResolver.accept(type);
+    }
+
+    /**
+     * 获取可能接受该类型的解析器
+     * @param type
+     * @return
+     */
+    private List<TypeResolver> candidates(ResolvedType type) {
+        if (!type.isReferenceType()) {
+            return resolvers;
+        }
+        return index.computeIfAbsent(type.asReferenceType().getId(), id -> {
+            List<TypeResolver> candidates = Lists.newArrayList();
+            for (TypeResolver typeResolver : resolvers) {
+                if (mayAccept(typeResolver, id)) {
+                    candidates.add(typeResolver);
+                }
+            }
+            return candidates;
+        });
+    }
+
+    private static boolean mayAccept(TypeResolver typeResolver, String id) {
+        Collection<String> ids = typeResolver.acceptIds();
+        Collection<String> prefixes = typeResolver.acceptPrefixes();
+        if (ids.isEmpty() && prefixes.isEmpty()) {
+            return true;
+        }
+        return ids.contains(id) || prefixes.stream().anyMatch(id::startsWith);
+    }
+
     /**
      * 通过名称解析类型信息
      *
@@ -89,12 +233,122 @@ public class TypeResolvers {
                 return nameResolver.resolve(type);
             }
         }
-        log.warn("type({}) resolve failed", id);
+        if (failed.add(id)) {
+            log.warn("type({}) resolve failed", id);
+        }
+        return new UnAvailableTypeDescription();
+    }
+
+    /**
+     * 记录无法解析的属性类型，如jar包中的属性引用了不在任何jar包中的类
+     * 该属性按未知类型忽略，不影响所在类型的其他属性
+     * @param name 无法解析的类名
+     * @return
+     */
+    public TypeDescription unsolved(String name) {
+        unsolved.computeIfAbsent(name, k -> new AtomicInteger()).incrementAndGet();
+        DependencyContext.getInstance().recordUnsolved(Collections.singleton(name));
+        if (failed.add(name)) {
+            log.warn("type({}) resolve failed", name);
+        }
         return new UnAvailableTypeDescription();
     }
 
+    /**
+     * 解析失败类型的缓存键
+     * 类名按import补全，存在无法补全的类名时加上包名及通配import，避免不同文件的同名类型混淆
+     *
+     * @param type
+     * @return
+     */
+    private static String unsolvedKey(Type type) {
+        StringBuilder builder = new StringBuilder();
+        if (!qualify(type, builder)) {
+            CompilationUnitHelper.getCompilationUnit(type).ifPresent(compilationUnit -> {
+                compilationUnit.getPackageDeclaration().ifPresent(declaration -> builder.append('|').append(declaration.getNameAsString()));
+                for (String wildcard : ImportIndex.of(compilationUnit).getWildcards()) {
+                    builder.append('|').append(wildcard);
+                }
+            });
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 解析失败的类型可能对应的完整类名
+     * 无法按import补全的类名，可能位于当前包或通配import的包下
+     *
+     * @param type
+     * @return
+     */
+    private static Set<String> candidateNames(Type type) {
+        Set<String> names = new LinkedHashSet<>();
+        for (ClassOrInterfaceType classType : type.findAll(ClassOrInterfaceType.class)) {
+            String id = ClassHelper.getId(classType);
+            if (id.indexOf('.') > 0) {
+                names.add(id);
+                continue;
+            }
+            CompilationUnitHelper.getCompilationUnit(classType).ifPresent(compilationUnit -> {
+                compilationUnit.getPackageDeclaration().ifPresent(declaration -> names.add(declaration.getNameAsString() + "." + id));
+                for (String wildcard : ImportIndex.of(compilationUnit).getWildcards()) {
+                    names.add(wildcard + "." + id);
+                }
+            });
+        }
+        return names;
+    }
+
+    /**
+     * 写入补全后的类型名称
+     * @param type
+     * @param builder
+     * @return 所有类名均已补全
+     */
+    private static boolean qualify(Type type, StringBuilder builder) {
+        if (type.isPrimitiveType()) {
+            builder.append(type.toString());
+            return true;
+        }
+        if (type.isArrayType()) {
+            boolean qualified = qualify(type.asArrayType().getComponentType(), builder);
+            builder.append("[]");
+            return qualified;
+        }
+        if (!type.isClassOrInterfaceType()) {
+            builder.append(type.toString());
+            return false;
+        }
+        String id = ClassHelper.getId(type);
+        builder.append(id);
+        boolean qualified = id.indexOf('.') > 0;
+        Optional<NodeList<Type>> typeArguments = type.asClassOrInterfaceType().getTypeArguments();
+        if (typeArguments.isPresent()) {
+            builder.append('<');
+            for (int i = 0; i < typeArguments.get().size(); i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                qualified &= qualify(typeArguments.get().get(i), builder);
+            }
+            builder.append('>');
+        }
+        return qualified;
+    }
+
+    /**
+     * 本次运行中解析失败的类型汇总
+     * @return 解析失败的类型及出现次数
+     */
+    public Map<String, Integer> getUnsolved() {
+        Map<String, Integer> result = new TreeMap<>();
+        unsolved.forEach((key, count) -> result.put(key, count.get()));
+        return result;
+    }
+
     public void addResolver(TypeResolver typeResolver) {
         resolvers.add(typeResolver);
+        index.clear();
     }
 
     public void addNameResolver(NameResolver nameResolver) {
@@ -1,6 +1,7 @@
 package com.github.apigcc.core.schema;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.Set;
@@ -8,6 +9,7 @@ import java.util.TreeSet;
 
 @Setter
 @Getter
+@NoArgsConstructor
 public class Book extends Node {
 
     public static final String DEFAULT = "index";
@@ -1,13 +1,13 @@
 package com.github.apigcc.core.schema;
 
 import com.github.apigcc.core.Context;
+import com.github.apigcc.core.common.SmallMap;
 import com.github.apigcc.core.common.helper.StringHelper;
 import com.github.javaparser.ast.comments.Comment;
 import lombok.Getter;
 import lombok.Setter;
 
 import javax.annotation.Nonnull;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -26,8 +26,16 @@ public class Node extends NodeWithComment implements Comparable<Node> {
     /**
      * 扩展属性
      * 如：Spring在Controller的RequestMapping，可以存在扩展属性中
+     * 多数节点没有扩展属性，首次获取时才分配
      */
-    Map<String, Object> ext = new HashMap<>();
+    Map<String, Object> ext;
+
+    public Map<String, Object> getExt() {
+        if (ext == null) {
+            ext = new SmallMap<>();
+        }
+        return ext;
+    }
 
     /**
      * 获取参数标签
@@ -1,12 +1,13 @@
 package com.github.apigcc.core.schema;
 
+import com.github.apigcc.core.common.SmallMap;
 import com.github.apigcc.core.common.helper.CommentHelper;
 import com.github.javaparser.ast.comments.Comment;
 import com.github.javaparser.javadoc.Javadoc;
 import com.github.javaparser.javadoc.JavadocBlockTag;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
@@ -19,8 +20,9 @@ public abstract class NodeWithComment {
 
     /**
      * javadoc 中的tag
+     * 多数节点没有tag，首次添加时才分配
      */
-    protected Map<String, Tag> tags = new HashMap<>();
+    protected Map<String, Tag> tags = Collections.emptyMap();
 
     /**
      * 解析注释
@@ -43,7 +45,24 @@ public abstract class NodeWithComment {
      */
     private void parse(JavadocBlockTag blockTag) {
         Tag tag = new Tag(blockTag);
-        tags.put(tag.getCompositeId(), tag);
+        mutableTags().put(tag.getCompositeId(), tag);
+    }
+
+    private Map<String, Tag> mutableTags() {
+        if (!(tags instanceof SmallMap)) {
+            tags = new SmallMap<>(tags);
+        }
+        return tags;
+    }
+
+    /**
+     * 复制已解析的注释标签
+     * @param source
+     */
+    public void putTags(NodeWithComment source) {
+        if (!source.tags.isEmpty()) {
+            mutableTags().putAll(source.tags);
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.github.apigcc.core.schema;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.apigcc.core.Context;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,7 +18,13 @@ public class Project extends Node {
 
     Map<String, Book> books = new TreeMap<>();
 
-    public void addChapter(Chapter chapter) {
+    /**
+     * 各小节共享的表格行池，不参与序列化
+     */
+    @JsonIgnore
+    transient RowPool rowPool = new RowPool();
+
+    public synchronized void addChapter(Chapter chapter) {
         if(Objects.isNull(chapter.getBookName())){
             chapter.setBookName(Book.DEFAULT);
         }
@@ -27,6 +34,40 @@ public class Project extends Node {
         books.get(chapter.getBookName()).getChapters().add(chapter);
     }
 
+    /**
+     * 合并其他Project的章节
+     * @param other
+     */
+    public synchronized void merge(Project other) {
+        for (Book book : other.getBooks().values()) {
+            for (Chapter chapter : book.getChapters()) {
+                chapter.getSections().forEach(section -> section.internRows(rowPool));
+                addChapter(chapter);
+            }
+        }
+    }
+
+    /**
+     * 所有小节的表格行放入行池，用于读取的快照
+     */
+    public void internRows() {
+        for (Chapter chapter : getChapters()) {
+            chapter.getSections().forEach(section -> section.internRows(rowPool));
+        }
+    }
+
+    /**
+     * 获取所有章节
+     * @return
+     */
+    public List<Chapter> getChapters() {
+        List<Chapter> chapters = new ArrayList<>();
+        for (Book book : books.values()) {
+            chapters.addAll(book.getChapters());
+        }
+        return chapters;
+    }
+
     /**
      * 根据环境配置初始化
      * @param context
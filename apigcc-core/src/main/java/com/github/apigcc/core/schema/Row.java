@@ -1,27 +1,48 @@
 package com.github.apigcc.core.schema;
 
-import lombok.*;
-
-import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 
 /**
  * 字段描述
+ * 创建后不再修改，内容相同的行由RowPool在各小节间共享
  */
 @EqualsAndHashCode
-@NoArgsConstructor
-@AllArgsConstructor
-@Setter
 @Getter
 public class Row {
 
-    String key;
-    String type;
-    String condition;
-    String def;
-    String remark;
+    final String key;
+    final String type;
+    final String condition;
+    final String def;
+    final String remark;
 
     public Row(String type) {
+        this(null, type, null, null, null);
+    }
+
+    @JsonCreator
+    public Row(@JsonProperty("key") String key,
+               @JsonProperty("type") String type,
+               @JsonProperty("condition") String condition,
+               @JsonProperty("def") String def,
+               @JsonProperty("remark") String remark) {
+        this.key = key;
         this.type = type;
+        this.condition = condition;
+        this.def = def;
+        this.remark = remark;
+    }
+
+    /**
+     * 默认值不同的新行，行可能已被多个小节共享，不在原行上修改
+     * @param def
+     * @return
+     */
+    public Row withDef(String def) {
+        return new Row(key, type, condition, def, remark);
     }
 
 }
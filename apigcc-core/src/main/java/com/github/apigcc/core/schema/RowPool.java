@@ -0,0 +1,64 @@
+package com.github.apigcc.core.schema;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 表格行池，属于一个Project，内容相同的行只保留一份，各小节共享
+ * 同一组成员在同一路径下生成的行列表也只生成一次
+ */
+public class RowPool {
+
+    private final Interner<Row> rows = Interners.newStrongInterner();
+
+    /**
+     * 成员列表(按对象标识) -> 上级路径 -> 成员生成的行
+     * 成员列表不再被类型描述引用后随之回收
+     */
+    private final Cache<Object, Map<String, List<Row>>> memberRows = CacheBuilder.newBuilder().weakKeys().build();
+
+    public Row intern(Row row) {
+        return rows.intern(row);
+    }
+
+    public void intern(Map<String, Row> rows) {
+        rows.replaceAll((key, row) -> intern(row));
+    }
+
+    /**
+     * 获取成员在指定路径下生成的行，首次获取时生成
+     * @param members 不再修改的成员列表
+     * @param prefix 上级路径
+     * @param supplier 生成行
+     * @return 只读的行列表
+     */
+    public List<Row> rows(Object members, String prefix, Supplier<Collection<Row>> supplier) {
+        Map<String, List<Row>> prefixes;
+        try {
+            prefixes = memberRows.get(members, ConcurrentHashMap::new);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to build rows", e.getCause());
+        }
+        List<Row> result = prefixes.get(prefix);
+        if (result == null) {
+            //生成时可能递归获取其他成员的行，不在computeIfAbsent中生成
+            List<Row> generated = ImmutableList.copyOf(supplier.get());
+            result = prefixes.putIfAbsent(prefix, generated);
+            if (result == null) {
+                result = generated;
+            }
+        }
+        return result;
+    }
+
+}
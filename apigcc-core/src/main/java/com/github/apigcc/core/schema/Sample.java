@@ -0,0 +1,55 @@
+package com.github.apigcc.core.schema;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.ref.SoftReference;
+import java.util.function.Supplier;
+
+/**
+ * 请求、响应的示例
+ * 由类型描述按需生成，生成的示例只软引用保留，内存不足时回收，再次使用时重新生成
+ * 序列化为示例本身，字段不参与序列化
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+public class Sample {
+
+    private final Supplier<JsonNode> supplier;
+    private SoftReference<JsonNode> reference;
+
+    private Sample(Supplier<JsonNode> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * 按需生成的示例
+     * @param supplier
+     * @return
+     */
+    public static Sample of(Supplier<JsonNode> supplier) {
+        return new Sample(supplier);
+    }
+
+    /**
+     * 已生成的示例
+     * @param node
+     * @return
+     */
+    @JsonCreator
+    public static Sample of(JsonNode node) {
+        return new Sample(() -> node);
+    }
+
+    @JsonValue
+    public JsonNode get() {
+        JsonNode node = reference == null ? null : reference.get();
+        if (node == null) {
+            node = supplier.get();
+            reference = new SoftReference<>(node);
+        }
+        return node;
+    }
+
+}
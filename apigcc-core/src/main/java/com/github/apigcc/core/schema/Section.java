@@ -1,10 +1,13 @@
 package com.github.apigcc.core.schema;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.apigcc.core.common.ObjectMappers;
 import com.github.apigcc.core.common.QueryStringBuilder;
 import com.github.apigcc.core.common.helper.StringHelper;
+import com.github.apigcc.core.description.Budget;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -24,15 +27,25 @@ public class Section extends Node {
     String uri;
     Map<String, Header> inHeaders = new LinkedHashMap<>();
     ObjectNode pathVariable = ObjectMappers.instance.createObjectNode();
-    JsonNode parameter;
+    Sample parameter;
     boolean queryParameter = true;
     Map<String, Row> requestRows = new LinkedHashMap<>();
 
     Map<String, Header> outHeaders = new LinkedHashMap<>();
-    JsonNode response;
+    Sample response;
     Map<String, Row> responseRows = new LinkedHashMap<>();
+    /**
+     * @return标签的内容或基本类型的默认值，保存时带上类型，读取后与解析时一致
+     */
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_ARRAY)
     Object rawResponse;
 
+    /**
+     * 展开类型的预算，请求、响应的表格和示例共用，仅在解析时使用
+     */
+    @JsonIgnore
+    transient Budget budget;
+
     public void addRequestRow(Row row) {
         requestRows.put(row.getKey(), row);
     }
@@ -45,6 +58,14 @@ public class Section extends Node {
         }
     }
 
+    public JsonNode getParameter() {
+        return parameter == null ? null : parameter.get();
+    }
+
+    public JsonNode getResponse() {
+        return response == null ? null : response.get();
+    }
+
     public String getRequestLine() {
         StringBuilder builder = new StringBuilder(this.method.toString());
         builder.append(" ").append(this.uri);
@@ -59,6 +80,7 @@ public class Section extends Node {
     }
 
     public String getParameterString() {
+        JsonNode parameter = getParameter();
         if (queryParameter && parameter instanceof ObjectNode) {
             return new QueryStringBuilder().append((ObjectNode) parameter).toString();
         }
@@ -69,7 +91,7 @@ public class Section extends Node {
         if (Objects.equals("GET", this.method)) {
             return false;
         }
-        return parameter != null && parameter.size() > 0;
+        return parameter != null && parameter.get().size() > 0;
     }
 
     public void addResponseRow(Row row) {
@@ -84,13 +106,22 @@ public class Section extends Node {
         }
     }
 
+    /**
+     * 表格行放入行池，内容相同的行共用一份
+     * @param rowPool
+     */
+    public void internRows(RowPool rowPool) {
+        rowPool.intern(requestRows);
+        rowPool.intern(responseRows);
+    }
+
     public boolean hasResponseBody() {
         return response != null || rawResponse != null;
     }
 
     public String getResponseString() {
         if (response != null) {
-            return ObjectMappers.pretty(response);
+            return ObjectMappers.pretty(response.get());
         }
         return String.valueOf(rawResponse);
     }
@@ -4,6 +4,7 @@ import com.github.apigcc.core.common.helper.CommentHelper;
 import com.github.apigcc.core.common.helper.StringHelper;
 import com.github.javaparser.javadoc.JavadocBlockTag;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,6 +17,7 @@ import java.util.Objects;
 @Slf4j
 @Setter
 @Getter
+@NoArgsConstructor
 public class Tag {
 
     String id;
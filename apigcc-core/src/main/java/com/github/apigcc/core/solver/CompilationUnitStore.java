@@ -0,0 +1,90 @@
+package com.github.apigcc.core.solver;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 源码解析结果的共享存储
+ * 源码解析与依赖源码的符号解析使用同一份CompilationUnit，同一文件只解析一次
+ * JavaParser非线程安全，每个解析线程持有独立的存储
+ */
+@Slf4j
+public class CompilationUnitStore {
+
+    public static final long UNLIMITED = -1;
+
+    private final JavaParser javaParser;
+
+    private final Cache<Path, Optional<ParseResult<CompilationUnit>>> cache;
+
+    /**
+     * 从本存储获取依赖源码的TypeSolver，构建后设置，供符号解析之外按类名解析类型
+     */
+    @Getter
+    @Setter
+    private TypeSolver typeSolver;
+
+    /**
+     * @param configuration 解析配置
+     * @param maximumSize 缓存的文件数上限，小于0时不限制
+     */
+    public CompilationUnitStore(ParserConfiguration configuration, long maximumSize) {
+        this.javaParser = new JavaParser(configuration);
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().softValues();
+        if (maximumSize >= 0) {
+            builder.maximumSize(maximumSize);
+        }
+        this.cache = builder.build();
+    }
+
+    /**
+     * 获取源码文件的解析结果，未解析过时解析并缓存
+     * @param file
+     * @return 文件不存在或读取失败时为空
+     */
+    public Optional<ParseResult<CompilationUnit>> get(Path file) {
+        Path key = file.toAbsolutePath().normalize();
+        try {
+            return cache.get(key, () -> parse(key));
+        } catch (ExecutionException e) {
+            log.warn("parse file {} error {}", file, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 获取源码文件的CompilationUnit
+     * @param file
+     * @return
+     */
+    public Optional<CompilationUnit> getCompilationUnit(Path file) {
+        return get(file).flatMap(ParseResult::getResult);
+    }
+
+    private Optional<ParseResult<CompilationUnit>> parse(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(javaParser.parse(file));
+        } catch (IOException e) {
+            log.warn("parse file {} error {}", file, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.github.apigcc.core.solver;
+
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.BadBytecode;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.FieldInfo;
+import javassist.bytecode.SignatureAttribute;
+import javassist.bytecode.annotation.Annotation;
+import javassist.bytecode.annotation.MemberValue;
+import javassist.bytecode.annotation.StringMemberValue;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 从class文件读取的类信息，只读取字节码，不加载类
+ * 每个类只读取一次，由JarIndex缓存，各解析线程的javassist类信息也由同一ClassFile构建
+ */
+@Slf4j
+public class JarClass {
+
+    @Getter
+    private final String name;
+
+    /**
+     * 解析后的class文件，只读
+     */
+    @Getter(AccessLevel.PACKAGE)
+    private final ClassFile classFile;
+
+    private final Map<String, JarField> fields = new LinkedHashMap<>();
+
+    JarClass(String name, ClassFile classFile) {
+        this.name = name;
+        this.classFile = classFile;
+        List<FieldInfo> fieldInfos = classFile.getFields();
+        for (FieldInfo fieldInfo : fieldInfos) {
+            Map<String, Map<String, String>> annotations = new LinkedHashMap<>();
+            readAnnotations(fieldInfo, AnnotationsAttribute.visibleTag, annotations);
+            readAnnotations(fieldInfo, AnnotationsAttribute.invisibleTag, annotations);
+            SignatureAttribute signature = (SignatureAttribute) fieldInfo.getAttribute(SignatureAttribute.tag);
+            SignatureAttribute.Type type = signature == null ? null : readType(signature.getSignature());
+            fields.put(fieldInfo.getName(), new JarField(fieldInfo.getName(),
+                    (fieldInfo.getAccessFlags() & AccessFlag.STATIC) != 0,
+                    type == null ? readType(fieldInfo.getDescriptor()) : type,
+                    type != null,
+                    annotations));
+        }
+    }
+
+    /**
+     * 读取属性的泛型签名或描述符
+     * @param signature
+     * @return 格式错误时为null
+     */
+    private SignatureAttribute.Type readType(String signature) {
+        try {
+            return SignatureAttribute.toTypeSignature(signature);
+        } catch (BadBytecode e) {
+            log.warn("read {} signature {} error {}", name, signature, e.getMessage());
+        }
+        return null;
+    }
+
+    private static void readAnnotations(FieldInfo fieldInfo, String tag, Map<String, Map<String, String>> annotations) {
+        AnnotationsAttribute attribute = (AnnotationsAttribute) fieldInfo.getAttribute(tag);
+        if (attribute == null) {
+            return;
+        }
+        for (Annotation annotation : attribute.getAnnotations()) {
+            Map<String, String> values = new LinkedHashMap<>();
+            if (annotation.getMemberNames() != null) {
+                for (Object memberName : annotation.getMemberNames()) {
+                    MemberValue value = annotation.getMemberValue((String) memberName);
+                    values.put((String) memberName, value instanceof StringMemberValue
+                            ? ((StringMemberValue) value).getValue()
+                            : String.valueOf(value));
+                }
+            }
+            annotations.putIfAbsent(simpleName(annotation.getTypeName()), Collections.unmodifiableMap(values));
+        }
+    }
+
+    private static String simpleName(String typeName) {
+        return typeName.substring(Math.max(typeName.lastIndexOf('.'), typeName.lastIndexOf('$')) + 1);
+    }
+
+    /**
+     * 获取类中声明的属性
+     * @param name
+     * @return
+     */
+    public Optional<JarField> getField(String name) {
+        return Optional.ofNullable(fields.get(name));
+    }
+
+    public Iterable<JarField> getFields() {
+        return fields.values();
+    }
+
+}
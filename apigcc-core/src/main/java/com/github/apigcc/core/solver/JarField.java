@@ -0,0 +1,59 @@
+package com.github.apigcc.core.solver;
+
+import javassist.bytecode.SignatureAttribute;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 从class文件读取的属性信息
+ * 属性类型取自泛型签名，没有签名时取自描述符，由JarTypes经TypeSolver解析，不加载类
+ * 注解以简单类名记录，与源码中按名称查找注解的方式一致
+ */
+@Getter
+public class JarField {
+
+    private final String name;
+    private final boolean isStatic;
+    /**
+     * 属性类型
+     */
+    private final SignatureAttribute.Type type;
+    /**
+     * 类型是否取自泛型签名
+     */
+    private final boolean generic;
+    /**
+     * 注解简单类名 -> 注解属性 -> 值
+     */
+    private final Map<String, Map<String, String>> annotations;
+
+    public JarField(String name, boolean isStatic, SignatureAttribute.Type type, boolean generic, Map<String, Map<String, String>> annotations) {
+        this.name = name;
+        this.isStatic = isStatic;
+        this.type = type;
+        this.generic = generic;
+        this.annotations = Collections.unmodifiableMap(annotations);
+    }
+
+    public boolean hasAnnotation(String name) {
+        return annotations.containsKey(name);
+    }
+
+    /**
+     * 获取注解属性值
+     * @param name 注解简单类名
+     * @param member 注解属性
+     * @return
+     */
+    public Optional<String> getAnnotationValue(String name, String member) {
+        Map<String, String> values = annotations.get(name);
+        if (values == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(values.get(member));
+    }
+
+}
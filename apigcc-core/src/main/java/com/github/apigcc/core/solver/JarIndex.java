@@ -0,0 +1,277 @@
+package com.github.apigcc.core.solver;
+
+import com.github.apigcc.core.common.ObjectMappers;
+import com.github.apigcc.core.common.helper.FileHelper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import javassist.bytecode.ClassFile;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * jar包的类索引，同一jar包在进程内只打开、索引一次，各Context共享
+ * 类名规则与JarTypeSolver一致，内部类以.分隔
+ * 指定索引目录时，类名索引持久化到磁盘，jar包大小、修改时间不变时直接读取，
+ * jar包本身延迟到首次读取其中的类时才打开
+ * 索引只提供类名和字节码，不持有CtClass，javassist的类信息由各解析线程的TypeSolver各自构建
+ * 索引数不设上限，每个Context每次都会遍历所有jar包，按上限淘汰会导致索引反复重建
+ * jar包大小或修改时间变化时重新索引，旧索引移除时关闭已打开的jar包
+ */
+@Slf4j
+public class JarIndex {
+
+    public static final String EXTENSION = ".json";
+
+    private static final Cache<Path, JarIndex> INDEXES = CacheBuilder.newBuilder()
+            .removalListener((RemovalListener<Path, JarIndex>) notification -> notification.getValue().close())
+            .build();
+
+    /**
+     * 获取jar包的索引，首次获取时建立
+     * @param jar
+     * @return
+     * @throws IOException
+     */
+    public static JarIndex of(Path jar) throws IOException {
+        return of(jar, null);
+    }
+
+    /**
+     * 获取jar包的索引，首次获取时从索引目录读取或建立
+     * @param jar
+     * @param indexPath 索引目录，为null时不持久化
+     * @return
+     * @throws IOException
+     */
+    public static JarIndex of(Path jar, Path indexPath) throws IOException {
+        Path key = jar.toAbsolutePath().normalize();
+        JarIndex index = INDEXES.getIfPresent(key);
+        if (index != null && index.isStale()) {
+            INDEXES.asMap().remove(key, index);
+        }
+        try {
+            return INDEXES.get(key, () -> new JarIndex(key, indexPath));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException("Failed to index jar " + key, e.getCause());
+        }
+    }
+
+    private final Path path;
+
+    /**
+     * 类名与jar包内的class文件
+     */
+    private final Map<String, String> entries;
+
+    private final Map<String, JarClass> jarClasses = new ConcurrentHashMap<>();
+
+    /**
+     * 建立索引时jar包的大小及修改时间
+     */
+    private final long size;
+    private final long lastModified;
+
+    private JarFile jarFile;
+
+    JarIndex(Path path, Path indexPath) throws IOException {
+        this.path = path;
+        JarIndexEntry entry = indexPath == null ? scan() : load(indexPath);
+        this.entries = entry.getClasses();
+        this.size = entry.getSize();
+        this.lastModified = entry.getLastModified();
+    }
+
+    /**
+     * 从索引目录读取未失效的索引，不存在时建立并保存
+     * @param indexPath
+     * @return
+     * @throws IOException
+     */
+    private JarIndexEntry load(Path indexPath) throws IOException {
+        Path indexFile = indexPath.resolve(Hashing.sha256().hashString(path.toString(), StandardCharsets.UTF_8) + EXTENSION);
+        Optional<JarIndexEntry> stored = read(indexFile);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        JarIndexEntry entry = scan();
+        try {
+            FileHelper.write(indexFile, ObjectMappers.instance.writeValueAsString(entry));
+        } catch (IOException | RuntimeException e) {
+            log.warn("write jar index {} error {}", indexFile, e.getMessage());
+        }
+        return entry;
+    }
+
+    /**
+     * jar包在建立索引后是否被替换
+     * @return
+     */
+    private boolean isStale() {
+        try {
+            return Files.size(path) != size || Files.getLastModifiedTime(path).toMillis() != lastModified;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 读取未失效的索引
+     * @param indexFile
+     * @return
+     */
+    private Optional<JarIndexEntry> read(Path indexFile) {
+        if (!Files.exists(indexFile)) {
+            return Optional.empty();
+        }
+        try {
+            JarIndexEntry entry = ObjectMappers.instance.readValue(indexFile.toFile(), JarIndexEntry.class);
+            if (Objects.equals(path.toString(), entry.getPath())
+                    && Files.size(path) == entry.getSize()
+                    && Files.getLastModifiedTime(path).toMillis() == entry.getLastModified()) {
+                return Optional.of(entry);
+            }
+        } catch (IOException e) {
+            log.warn("read jar index {} error {}", indexFile, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 读取jar包内的所有类
+     * @return
+     * @throws IOException
+     */
+    private JarIndexEntry scan() throws IOException {
+        JarIndexEntry entry = new JarIndexEntry();
+        entry.setPath(path.toString());
+        entry.setSize(Files.size(path));
+        entry.setLastModified(Files.getLastModifiedTime(path).toMillis());
+        try (JarFile jar = new JarFile(path.toFile())) {
+            Enumeration<JarEntry> enumeration = jar.entries();
+            while (enumeration.hasMoreElements()) {
+                JarEntry jarEntry = enumeration.nextElement();
+                if (!jarEntry.isDirectory() && jarEntry.getName().endsWith(".class")) {
+                    entry.getClasses().put(toClassName(jarEntry.getName()), jarEntry.getName());
+                }
+            }
+        }
+        return entry;
+    }
+
+    private static String toClassName(String entryName) {
+        return entryName.substring(0, entryName.length() - ".class".length()).replace('/', '.').replace('$', '.');
+    }
+
+    /**
+     * jar包中的所有类名
+     * @return
+     */
+    public Set<String> getClassNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * 是否包含该类
+     * @param name
+     * @return
+     */
+    public boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    /**
+     * 读取类的字节码
+     * JarFile可在多个线程中同时读取
+     * @param name
+     * @return 不包含该类时为空
+     * @throws IOException
+     */
+    public Optional<byte[]> read(String name) throws IOException {
+        String entryName = entries.get(name);
+        if (entryName == null) {
+            return Optional.empty();
+        }
+        JarFile jar = open();
+        JarEntry entry = jar.getJarEntry(entryName);
+        if (entry == null) {
+            throw new IOException("entry " + entryName + " not found");
+        }
+        try (InputStream is = jar.getInputStream(entry)) {
+            return Optional.of(ByteStreams.toByteArray(is));
+        }
+    }
+
+    /**
+     * 获取从字节码读取的类信息，同一个类只读取一次
+     * @param name
+     * @return
+     * @throws IOException
+     */
+    public Optional<JarClass> getJarClass(String name) throws IOException {
+        JarClass jarClass = jarClasses.get(name);
+        if (jarClass != null) {
+            return Optional.of(jarClass);
+        }
+        Optional<byte[]> bytes = read(name);
+        if (!bytes.isPresent()) {
+            return Optional.empty();
+        }
+        ClassFile classFile = new ClassFile(new DataInputStream(new ByteArrayInputStream(bytes.get())));
+        return Optional.of(jarClasses.computeIfAbsent(name, key -> new JarClass(key, classFile)));
+    }
+
+    /**
+     * 打开jar包，仅在首次读取类时执行
+     * @return
+     * @throws IOException
+     */
+    private synchronized JarFile open() throws IOException {
+        if (jarFile == null) {
+            jarFile = new JarFile(path.toFile());
+        }
+        return jarFile;
+    }
+
+    /**
+     * 关闭已打开的jar包，之后读取类时重新打开
+     */
+    synchronized void close() {
+        if (jarFile == null) {
+            return;
+        }
+        try {
+            jarFile.close();
+        } catch (IOException e) {
+            log.warn("close jar {} error {}", path, e.getMessage());
+        }
+        jarFile = null;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.github.apigcc.core.solver;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 持久化的jar包类索引
+ */
+@Setter
+@Getter
+public class JarIndexEntry {
+
+    /**
+     * jar包路径
+     */
+    String path;
+
+    /**
+     * jar包大小
+     */
+    long size;
+
+    /**
+     * jar包修改时间
+     */
+    long lastModified;
+
+    /**
+     * 类名与jar包内的class文件
+     */
+    Map<String, String> classes = new LinkedHashMap<>();
+
+}
@@ -0,0 +1,114 @@
+package com.github.apigcc.core.solver;
+
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.javassistmodel.JavassistFactory;
+import com.github.javaparser.symbolsolver.model.resolution.SymbolReference;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 基于共享JarIndex的TypeSolver
+ * 索引在进程内共享，TypeSolver本身很轻，每个Context、每个解析线程各自构建
+ * javassist的ClassPool、CtClass非线程安全，由TypeSolver各自持有，不在线程间共享
+ */
+@Slf4j
+public class JarIndexTypeSolver implements TypeSolver {
+
+    private final JarIndex jarIndex;
+    private TypeSolver parent;
+
+    /**
+     * 首次读取类时创建
+     */
+    private ClassPool classPool;
+
+    /**
+     * 已读取的类
+     */
+    private final Map<String, CtClass> classes = new HashMap<>();
+
+    public JarIndexTypeSolver(JarIndex jarIndex) {
+        this.jarIndex = jarIndex;
+    }
+
+    @Override
+    public TypeSolver getParent() {
+        return parent;
+    }
+
+    @Override
+    public void setParent(TypeSolver parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+        if (!jarIndex.contains(name)) {
+            return SymbolReference.unsolved(ResolvedReferenceTypeDeclaration.class);
+        }
+        try {
+            Optional<CtClass> ctClass = get(name);
+            if (ctClass.isPresent()) {
+                return SymbolReference.solved(JavassistFactory.toTypeDeclaration(ctClass.get(), getRoot()));
+            }
+        } catch (IOException | RuntimeException e) {
+            //与JarTypeSolver一致，无法读取的类视为未找到，不中断解析
+            log.warn("read {} from {} error {}", name, jarIndex.getPath(), e.getMessage());
+        }
+        return SymbolReference.unsolved(ResolvedReferenceTypeDeclaration.class);
+    }
+
+    /**
+     * 获取类的javassist信息，同一个类只读取一次
+     * 由JarIndex缓存的ClassFile构建，与JarClass共用一次读取、解析的结果
+     * @param name
+     * @return
+     * @throws IOException
+     */
+    private Optional<CtClass> get(String name) throws IOException {
+        CtClass ctClass = classes.get(name);
+        if (ctClass != null) {
+            return Optional.of(ctClass);
+        }
+        Optional<JarClass> jarClass = jarIndex.getJarClass(name);
+        if (!jarClass.isPresent()) {
+            return Optional.empty();
+        }
+        ctClass = open().makeClass(jarClass.get().getClassFile());
+        classes.put(name, ctClass);
+        return Optional.of(ctClass);
+    }
+
+    /**
+     * 创建ClassPool，仅在首次读取类时执行
+     * @return
+     * @throws IOException
+     */
+    private ClassPool open() throws IOException {
+        if (classPool == null) {
+            ClassPool pool = new ClassPool(false);
+            try {
+                pool.appendClassPath(jarIndex.getPath().toString());
+                pool.appendSystemPath();
+            } catch (NotFoundException e) {
+                throw new IOException(e);
+            }
+            this.classPool = pool;
+        }
+        return classPool;
+    }
+
+    @Override
+    public String toString() {
+        return "JarIndexTypeSolver{path=" + jarIndex.getPath() + "}";
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.github.apigcc.core.solver;
+
+import com.github.javaparser.resolution.UnsolvedSymbolException;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedTypeParameterDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedTypeParametrizable;
+import com.github.javaparser.resolution.types.ResolvedArrayType;
+import com.github.javaparser.resolution.types.ResolvedPrimitiveType;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.resolution.types.ResolvedTypeVariable;
+import com.github.javaparser.resolution.types.ResolvedVoidType;
+import com.github.javaparser.resolution.types.ResolvedWildcard;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
+import com.github.javaparser.symbolsolver.model.typesystem.ReferenceTypeImpl;
+import javassist.bytecode.SignatureAttribute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 将class文件中的类型签名转换为JavaParser的类型
+ * 类名经TypeSolver解析，可位于其他jar包或源码中，不经过javassist的ClassPool，也不加载类
+ * 转换结果与JavaParser的javassist模型一致：泛型签名中的类型按给出的泛型参数构建，描述符中的类型按原始类型构建
+ */
+public class JarTypes {
+
+    /**
+     * 转换属性类型
+     * @param field
+     * @param typeSolver 解析类名使用的TypeSolver，一般为根TypeSolver
+     * @param declaration 属性所在的类型，用于查找类型变量
+     * @return
+     * @throws UnsolvedSymbolException 类名无法解析时
+     */
+    public static ResolvedType toResolvedType(JarField field, TypeSolver typeSolver, ResolvedTypeParametrizable declaration) {
+        return toResolvedType(field.getType(), field.isGeneric(), typeSolver, declaration);
+    }
+
+    private static ResolvedType toResolvedType(SignatureAttribute.Type type, boolean generic, TypeSolver typeSolver, ResolvedTypeParametrizable declaration) {
+        if (type instanceof SignatureAttribute.BaseType) {
+            String name = type.toString();
+            return "void".equals(name) ? ResolvedVoidType.INSTANCE : ResolvedPrimitiveType.byName(name);
+        }
+        if (type instanceof SignatureAttribute.ArrayType) {
+            SignatureAttribute.ArrayType arrayType = (SignatureAttribute.ArrayType) type;
+            ResolvedType resolvedType = toResolvedType(arrayType.getComponentType(), generic, typeSolver, declaration);
+            for (int i = 0; i < arrayType.getDimension(); i++) {
+                resolvedType = new ResolvedArrayType(resolvedType);
+            }
+            return resolvedType;
+        }
+        if (type instanceof SignatureAttribute.TypeVariable) {
+            String name = ((SignatureAttribute.TypeVariable) type).getName();
+            Optional<ResolvedTypeParameterDeclaration> typeParameter = declaration.findTypeParameter(name);
+            if (!typeParameter.isPresent()) {
+                throw new UnsolvedSymbolException(name);
+            }
+            return new ResolvedTypeVariable(typeParameter.get());
+        }
+        SignatureAttribute.ClassType classType = (SignatureAttribute.ClassType) type;
+        ResolvedReferenceTypeDeclaration typeDeclaration = typeSolver.solveType(getName(classType));
+        if (!generic) {
+            return new ReferenceTypeImpl(typeDeclaration, typeSolver);
+        }
+        List<ResolvedType> typeArguments = new ArrayList<>();
+        if (classType.getTypeArguments() != null) {
+            for (SignatureAttribute.TypeArgument typeArgument : classType.getTypeArguments()) {
+                typeArguments.add(toResolvedType(typeArgument, typeSolver, declaration));
+            }
+        }
+        return new ReferenceTypeImpl(typeDeclaration, typeArguments, typeSolver);
+    }
+
+    private static ResolvedType toResolvedType(SignatureAttribute.TypeArgument typeArgument, TypeSolver typeSolver, ResolvedTypeParametrizable declaration) {
+        if (!typeArgument.isWildcard()) {
+            return toResolvedType(typeArgument.getType(), true, typeSolver, declaration);
+        }
+        if (typeArgument.getType() == null) {
+            return ResolvedWildcard.UNBOUNDED;
+        }
+        ResolvedType bound = toResolvedType(typeArgument.getType(), true, typeSolver, declaration);
+        return typeArgument.getKind() == '-' ? ResolvedWildcard.superBound(bound) : ResolvedWildcard.extendsBound(bound);
+    }
+
+    /**
+     * 类名，内部类以.分隔，与JarIndex一致
+     * @param classType
+     * @return
+     */
+    private static String getName(SignatureAttribute.ClassType classType) {
+        SignatureAttribute.ClassType declaringClass = classType.getDeclaringClass();
+        String name = declaringClass == null ? classType.getName() : getName(declaringClass) + "." + classType.getName();
+        return name.replace('$', '.');
+    }
+
+}
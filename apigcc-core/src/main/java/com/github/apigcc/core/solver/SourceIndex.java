@@ -0,0 +1,81 @@
+package com.github.apigcc.core.solver;
+
+import com.github.apigcc.core.common.helper.FileHelper;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 依赖源码目录的包索引
+ * 启动时遍历一次所有源码目录，记录每个包出现在哪些目录下及包内的java文件
+ * 目录相互嵌套时，内层目录的文件只归入内层目录，不重复索引
+ * 建立后不再变化，可在解析线程间共享
+ */
+public class SourceIndex {
+
+    private final List<Path> roots;
+
+    /**
+     * 源码目录的注册顺序
+     */
+    private final Map<Path, Integer> order = new HashMap<>();
+
+    /**
+     * 包名 -> 源码目录 -> 包下的java文件，源码目录保持注册顺序
+     */
+    private final Map<String, Map<Path, List<Path>>> packages = new HashMap<>();
+
+    public SourceIndex(List<Path> roots) {
+        this.roots = new ArrayList<>();
+        for (Path root : roots) {
+            Path dir = root.toAbsolutePath().normalize();
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            if (order.containsKey(dir)) {
+                continue;
+            }
+            order.put(dir, this.roots.size());
+            this.roots.add(dir);
+        }
+        for (Path dir : this.roots) {
+            List<Path> nested = new ArrayList<>();
+            for (Path other : this.roots) {
+                if (!other.equals(dir) && other.startsWith(dir)) {
+                    nested.add(other);
+                }
+            }
+            for (Path file : FileHelper.findJavaFiles(dir, nested)) {
+                String packageName = dir.relativize(file.getParent()).toString().replace(File.separatorChar, '.');
+                packages.computeIfAbsent(packageName, key -> new LinkedHashMap<>())
+                        .computeIfAbsent(dir, key -> new ArrayList<>())
+                        .add(file);
+            }
+        }
+    }
+
+    public List<Path> getRoots() {
+        return roots;
+    }
+
+    public int indexOf(Path root) {
+        return order.getOrDefault(root, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 获取包在各源码目录下的java文件
+     * @param packageName
+     * @return
+     */
+    public Map<Path, List<Path>> get(String packageName) {
+        return packages.getOrDefault(packageName, Collections.emptyMap());
+    }
+
+}
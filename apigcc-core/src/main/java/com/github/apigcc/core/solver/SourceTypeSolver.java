@@ -0,0 +1,132 @@
+package com.github.apigcc.core.solver;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.javaparser.Navigator;
+import com.github.javaparser.symbolsolver.javaparsermodel.JavaParserFacade;
+import com.github.javaparser.symbolsolver.model.resolution.SymbolReference;
+import com.github.javaparser.symbolsolver.model.resolution.TypeSolver;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 依赖源码的TypeSolver
+ * 所有依赖源码目录共用一个SourceIndex，按包名直接定位到所在目录，不再逐个目录查找
+ * 查找规则与按目录顺序组合的JavaParserTypeSolver一致，源码文件从CompilationUnitStore获取，复用源码解析的结果
+ */
+@Slf4j
+public class SourceTypeSolver implements TypeSolver {
+
+    private final SourceIndex sourceIndex;
+    private final CompilationUnitStore store;
+    private TypeSolver parent;
+
+    /**
+     * 已查找的类型，设置上限时按最近使用淘汰
+     */
+    private final Cache<String, SymbolReference<ResolvedReferenceTypeDeclaration>> foundTypes;
+
+    public SourceTypeSolver(SourceIndex sourceIndex, CompilationUnitStore store, long maximumSize) {
+        this.sourceIndex = sourceIndex;
+        this.store = store;
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().softValues();
+        if (maximumSize >= 0) {
+            builder.maximumSize(maximumSize);
+        }
+        this.foundTypes = builder.build();
+    }
+
+    @Override
+    public TypeSolver getParent() {
+        return parent;
+    }
+
+    @Override
+    public void setParent(TypeSolver parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+        try {
+            return foundTypes.get(name, () -> tryToSolveTypeUncached(name));
+        } catch (ExecutionException e) {
+            log.warn("solve type {} error {}", name, e.getMessage());
+        }
+        return SymbolReference.unsolved(ResolvedReferenceTypeDeclaration.class);
+    }
+
+    /**
+     * 按目录注册顺序，仅在包含候选包的目录中查找
+     * 每个目录内先按类名查找对应的文件，找不到时在同一包下的所有文件中查找
+     * @param name
+     * @return
+     */
+    private SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveTypeUncached(String name) {
+        String[] nameElements = name.split("\\.");
+        List<String> packageNames = new ArrayList<>();
+        for (int i = nameElements.length; i > 0; i--) {
+            packageNames.add(String.join(".", Arrays.asList(nameElements).subList(0, i - 1)));
+        }
+        Set<Path> roots = new TreeSet<>(Comparator.comparingInt(sourceIndex::indexOf));
+        for (String packageName : packageNames) {
+            roots.addAll(sourceIndex.get(packageName).keySet());
+        }
+        for (Path root : roots) {
+            for (int i = nameElements.length; i > 0; i--) {
+                List<Path> files = sourceIndex.get(packageNames.get(nameElements.length - i)).get(root);
+                if (files == null) {
+                    continue;
+                }
+                Path srcFile = root;
+                for (int j = 0; j < i - 1; j++) {
+                    srcFile = srcFile.resolve(nameElements[j]);
+                }
+                srcFile = srcFile.resolve(nameElements[i - 1] + ".java");
+                String typeName = String.join(".", Arrays.asList(nameElements).subList(i - 1, nameElements.length));
+
+                if (files.contains(srcFile)) {
+                    Optional<SymbolReference<ResolvedReferenceTypeDeclaration>> found = find(store.getCompilationUnit(srcFile), typeName);
+                    if (found.isPresent()) {
+                        return found.get();
+                    }
+                }
+                for (Path file : files) {
+                    Optional<SymbolReference<ResolvedReferenceTypeDeclaration>> found = find(store.getCompilationUnit(file), typeName);
+                    if (found.isPresent()) {
+                        return found.get();
+                    }
+                }
+            }
+        }
+        return SymbolReference.unsolved(ResolvedReferenceTypeDeclaration.class);
+    }
+
+    private Optional<SymbolReference<ResolvedReferenceTypeDeclaration>> find(Optional<CompilationUnit> compilationUnit, String typeName) {
+        if (compilationUnit.isPresent()) {
+            Optional<TypeDeclaration<?>> typeDeclaration = Navigator.findType(compilationUnit.get(), typeName);
+            if (typeDeclaration.isPresent()) {
+                return Optional.of(SymbolReference.solved(JavaParserFacade.get(this).getTypeDeclaration(typeDeclaration.get())));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return "SourceTypeSolver{roots=" + sourceIndex.getRoots() + "}";
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.github.apigcc.core;
+
+import com.github.apigcc.core.common.helper.FileHelper;
+import com.github.apigcc.core.solver.JarClass;
+import com.github.apigcc.core.solver.JarFixture;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ContextTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void nestedSourceRoots() {
+        Path module = folder.getRoot().toPath().toAbsolutePath().normalize().resolve("mod");
+        Path java = module.resolve(Context.DEFAULT_CODE_STRUCTURE);
+        Path controller = java.resolve("demo/controller/UserController.java");
+        Path dto = java.resolve("demo/dto/User.java");
+        FileHelper.write(controller, "package demo.controller; public class UserController {}");
+        FileHelper.write(dto, "package demo.dto; public class User {}");
+
+        Context context = new Context();
+        context.addSource(module);
+        context.addSource(java);
+
+        List<Path> files = context.getSourceFiles();
+        assertEquals(2, files.size());
+        assertTrue(files.contains(controller));
+        assertTrue(files.contains(dto));
+        //模块目录下的java目录重复2个文件，controller目录重复1个文件
+        assertEquals(3, context.getDuplicateSourceFiles());
+    }
+
+    @Test
+    public void jarClassFromFirstJar() throws Exception {
+        Path first = new JarFixture()
+                .addClass("demo.dto.User", "name")
+                .write(folder.getRoot().toPath().resolve("first.jar"));
+        Path second = new JarFixture()
+                .addClass("demo.dto.User", "name", "email")
+                .addClass("demo.dto.Order", "sku")
+                .write(folder.getRoot().toPath().resolve("second.jar"));
+
+        Context context = new Context();
+        context.addJar(first);
+        context.addJar(second);
+
+        Optional<JarClass> user = context.getJarClass("demo.dto.User");
+        assertTrue(user.isPresent());
+        assertFalse(user.get().getField("email").isPresent());
+        assertTrue(context.getJarClass("demo.dto.Order").isPresent());
+        assertFalse(context.getJarClass("demo.dto.Address").isPresent());
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.github.apigcc.core.common;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class SmallMapTest {
+
+    private static final List<String> KEYS = Arrays.asList("param", "return", "book", "group", "ignore", "author", "since");
+
+    @Test
+    public void keepsInsertionOrderPastArraySize() {
+        Map<String, Integer> map = new SmallMap<>();
+        for (int i = 0; i < KEYS.size(); i++) {
+            map.put(KEYS.get(i), i);
+        }
+
+        assertEquals(KEYS, new ArrayList<>(map.keySet()));
+        assertEquals(Integer.valueOf(5), map.get("author"));
+    }
+
+    @Test
+    public void replaceKeepsPosition() {
+        Map<String, Integer> map = new SmallMap<>();
+        map.put("param", 1);
+        map.put("return", 2);
+        map.put("param", 3);
+
+        assertEquals(Arrays.asList("param", "return"), new ArrayList<>(map.keySet()));
+        assertEquals(Integer.valueOf(3), map.get("param"));
+    }
+
+    @Test
+    public void removeThroughIterator() {
+        Map<String, Integer> map = new SmallMap<>();
+        map.put("param", 1);
+        map.put("return", 2);
+        map.put("book", 3);
+
+        Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(Arrays.asList("return", "book"), new ArrayList<>(map.keySet()));
+        assertFalse(map.containsKey("param"));
+        assertNull(map.remove("param"));
+    }
+
+}
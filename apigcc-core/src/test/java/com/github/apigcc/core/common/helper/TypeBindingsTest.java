@@ -0,0 +1,88 @@
+package com.github.apigcc.core.common.helper;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.resolution.types.ResolvedReferenceType;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class TypeBindingsTest {
+
+    private static final String SOURCE = "package demo;\n" +
+            "import java.util.*;\n" +
+            "class Base<A> { A id; }\n" +
+            "class Table<K, V> extends Base<K> { K key; Map<K, List<V>> rows; V[] values; }\n" +
+            "class Holder { Table<String, Integer> table; }\n" +
+            "class Pair<A, B> { List<A> xs; Map<A, ? extends B> map; B[] ys; }\n" +
+            "class Sub<B> extends Pair<B, String> { }\n" +
+            "class SubHolder { Sub<Integer> sub; }\n";
+
+    private ClassOrInterfaceDeclaration table;
+    private ClassOrInterfaceDeclaration pair;
+    private ResolvedReferenceType holderField;
+    private ResolvedReferenceType subField;
+
+    @Before
+    public void setUp() {
+        ParserConfiguration configuration = new ParserConfiguration()
+                .setSymbolResolver(new JavaSymbolSolver(new ReflectionTypeSolver()));
+        CompilationUnit compilationUnit = new JavaParser(configuration).parse(SOURCE).getResult().get();
+        table = compilationUnit.getClassByName("Table").get();
+        holderField = compilationUnit.getClassByName("Holder").get()
+                .getFieldByName("table").get().resolve().getType().asReferenceType();
+        pair = compilationUnit.getClassByName("Pair").get();
+        subField = compilationUnit.getClassByName("SubHolder").get()
+                .getFieldByName("sub").get().resolve().getType().asReferenceType();
+    }
+
+    @Test
+    public void replacesAllTypeVariables() {
+        TypeBindings bindings = TypeBindings.of(holderField);
+
+        assertEquals("java.lang.String", bindings.apply(type("key")).describe());
+        assertEquals("java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>", bindings.apply(type("rows")).describe());
+        assertEquals("java.lang.Integer[]", bindings.apply(type("values")).describe());
+    }
+
+    @Test
+    public void appliesToAncestors() {
+        List<ResolvedReferenceType> ancestors = TypeAncestors.of(holderField);
+        //第二次使用缓存的父类型
+        List<ResolvedReferenceType> cached = TypeAncestors.of(holderField);
+
+        assertEquals("demo.Base<java.lang.String>", ancestors.get(0).describe());
+        assertEquals("demo.Base<java.lang.String>", cached.get(0).describe());
+    }
+
+    @Test
+    public void doesNotReplaceSubstitutedTypes() {
+        //父类声明为 Pair<B, String>，代入后的B不能再被父类的B替换
+        ResolvedReferenceType ancestor = subField.getTypeDeclaration().getAncestors().get(0);
+        TypeBindings ancestorBindings = TypeBindings.of(ancestor);
+        TypeBindings subBindings = TypeBindings.of(subField);
+
+        assertEquals("java.util.List<B>", ancestorBindings.apply(type(pair, "xs")).describe());
+        assertEquals("java.util.List<java.lang.Integer>", subBindings.apply(ancestorBindings.apply(type(pair, "xs"))).describe());
+        assertEquals("java.util.Map<java.lang.Integer, ? extends java.lang.String>", subBindings.apply(ancestorBindings.apply(type(pair, "map"))).describe());
+        assertEquals("java.lang.String[]", subBindings.apply(ancestorBindings.apply(type(pair, "ys"))).describe());
+        assertEquals("demo.Pair<java.lang.Integer, java.lang.String>", TypeAncestors.of(subField).get(0).describe());
+    }
+
+    private ResolvedType type(String field) {
+        return type(table, field);
+    }
+
+    private static ResolvedType type(ClassOrInterfaceDeclaration declaration, String field) {
+        return declaration.getFieldByName(field).get().resolve().getType();
+    }
+
+}
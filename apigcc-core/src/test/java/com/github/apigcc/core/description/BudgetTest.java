@@ -0,0 +1,89 @@
+package com.github.apigcc.core.description;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.apigcc.core.schema.Row;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class BudgetTest {
+
+    @Test
+    public void rowsSharedWithinSection() {
+        Budget budget = new Budget(-1, -1, 3);
+
+        Collection<Row> request = user("user").rows(budget);
+        Collection<Row> response = user("user").rows(budget);
+
+        assertEquals(3, request.size());
+        assertEquals(0, response.size());
+    }
+
+    @Test
+    public void tooDeepObjectReferencesType() {
+        ObjectTypeDescription order = object("Order", null);
+        order.add(user("user"));
+
+        List<Row> rows = new ArrayList<>(order.rows(new Budget(0, -1, -1)));
+
+        assertEquals(1, rows.size());
+        assertEquals("user", rows.get(0).getKey());
+        assertEquals(Budget.anchor("User"), rows.get(0).getDef());
+    }
+
+    @Test
+    public void placeholderDoesNotModifyRow() {
+        ObjectTypeDescription order = object("Order", null);
+        order.add(user("user"));
+        Row row = order.rows().iterator().next();
+
+        order.rows(new Budget(0, -1, -1));
+
+        assertFalse(Budget.anchor("User").equals(row.getDef()));
+    }
+
+    @Test
+    public void sampleFieldsLimited() {
+        Budget budget = new Budget(-1, 2, -1);
+        ObjectTypeDescription user = user(null);
+
+        ObjectNode first = user.getValue(budget.forSample());
+        ObjectNode second = user.getValue(budget.forSample());
+
+        assertEquals(2, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void tooDeepSampleReferencesType() {
+        ObjectTypeDescription order = object("Order", null);
+        order.add(user("user"));
+
+        ObjectNode node = order.getValue(new Budget(0, -1, -1));
+
+        assertEquals(Budget.anchor("User"), node.get("user").get(Budget.REFERENCE).asText());
+    }
+
+    private static ObjectTypeDescription user(String key) {
+        ObjectTypeDescription user = object("User", key);
+        for (String field : new String[]{"name", "email", "phone"}) {
+            StringTypeDescription description = new StringTypeDescription("String", "");
+            description.setKey(field);
+            user.add(description);
+        }
+        return user;
+    }
+
+    private static ObjectTypeDescription object(String type, String key) {
+        ObjectTypeDescription description = new ObjectTypeDescription();
+        description.setType(type);
+        description.setKey(key);
+        return description;
+    }
+
+}
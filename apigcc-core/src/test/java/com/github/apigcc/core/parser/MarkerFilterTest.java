@@ -0,0 +1,50 @@
+package com.github.apigcc.core.parser;
+
+import com.github.apigcc.core.common.helper.FileHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MarkerFilterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final MarkerFilter filter = new MarkerFilter(Arrays.asList("RestController", "Controller"));
+
+    private Path file(String name, String content) {
+        Path file = folder.getRoot().toPath().resolve(name);
+        FileHelper.write(file, content);
+        return file;
+    }
+
+    @Test
+    public void simpleName() {
+        assertTrue(filter.test(file("A.java", "@RestController\npublic class A {}")));
+    }
+
+    @Test
+    public void qualifiedName() {
+        assertTrue(filter.test(file("B.java", "@org.springframework.stereotype.Controller public class B {}")));
+        assertTrue(filter.test(file("C.java", "@ org . springframework . stereotype . Controller public class C {}")));
+    }
+
+    @Test
+    public void otherAnnotation() {
+        assertFalse(filter.test(file("D.java", "@Service public class D {}")));
+        assertFalse(filter.test(file("E.java", "@ControllerAdvice public class E {}")));
+        assertFalse(filter.test(file("F.java", "public class F { String controller = \"RestController\"; }")));
+    }
+
+    @Test
+    public void unreadableFile() {
+        assertTrue(filter.test(folder.getRoot().toPath().resolve("missing.java")));
+    }
+
+}
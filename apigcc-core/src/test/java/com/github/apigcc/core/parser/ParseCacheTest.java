@@ -0,0 +1,103 @@
+package com.github.apigcc.core.parser;
+
+import com.github.apigcc.core.common.helper.FileHelper;
+import com.github.apigcc.core.schema.Chapter;
+import com.github.apigcc.core.schema.Row;
+import com.github.apigcc.core.schema.Section;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParseCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path cachePath;
+    private Path root;
+    private Path controller;
+    private Path dto;
+
+    @Before
+    public void setUp() throws Exception {
+        cachePath = folder.newFolder("cache").toPath();
+        root = folder.newFolder("src").toPath();
+        controller = root.resolve("demo/controller/UserController.java");
+        dto = root.resolve("demo/dto/User.java");
+        FileHelper.write(controller, "package demo.controller; public class UserController {}");
+        FileHelper.write(dto, "package demo.dto; public class User { String name; }");
+    }
+
+    private ParseCache newCache(String fingerprint) {
+        return new ParseCache(cachePath, fingerprint, Collections.singletonList(root));
+    }
+
+    private List<Chapter> chapters() {
+        Section section = new Section();
+        section.setId("get");
+        section.setUri("/users");
+        section.addResponseRow(new Row("name", "String", null, null, "name"));
+        Chapter chapter = new Chapter();
+        chapter.setId("UserController");
+        chapter.getSections().add(section);
+        return Collections.singletonList(chapter);
+    }
+
+    @Test
+    public void roundTrip() {
+        newCache("spring").put(controller, chapters(), Collections.singletonList(dto), Collections.emptyList());
+
+        Optional<List<Chapter>> cached = newCache("spring").get(controller);
+        assertTrue(cached.isPresent());
+        assertEquals(1, cached.get().size());
+        Chapter chapter = cached.get().get(0);
+        assertEquals("UserController", chapter.getId());
+        Section section = chapter.getSections().iterator().next();
+        assertEquals("/users", section.getUri());
+        assertEquals("String", section.getResponseRows().get("name").getType());
+    }
+
+    @Test
+    public void dependencyChanged() {
+        newCache("spring").put(controller, chapters(), Collections.singletonList(dto), Collections.emptyList());
+        FileHelper.write(dto, "package demo.dto; public class User { String name; int age; }");
+
+        assertFalse(newCache("spring").get(controller).isPresent());
+    }
+
+    @Test
+    public void sourceChanged() {
+        newCache("spring").put(controller, chapters(), Collections.singletonList(dto), Collections.emptyList());
+        FileHelper.write(controller, "package demo.controller; public class UserController { }");
+
+        assertFalse(newCache("spring").get(controller).isPresent());
+    }
+
+    @Test
+    public void fingerprintChanged() {
+        newCache("spring").put(controller, chapters(), Collections.singletonList(dto), Collections.emptyList());
+
+        assertFalse(newCache("jaxrs").get(controller).isPresent());
+    }
+
+    @Test
+    public void unsolvedTypeAdded() {
+        newCache("spring").put(controller, chapters(), Collections.singletonList(dto), Collections.singletonList("demo.dto.Address"));
+        assertTrue(newCache("spring").get(controller).isPresent());
+
+        FileHelper.write(root.resolve("demo/dto/Address.java"), "package demo.dto; public class Address {}");
+
+        assertFalse(newCache("spring").get(controller).isPresent());
+    }
+
+}
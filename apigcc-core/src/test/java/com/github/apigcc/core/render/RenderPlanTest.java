@@ -0,0 +1,119 @@
+package com.github.apigcc.core.render;
+
+import com.github.apigcc.core.ExtConfig;
+import com.github.apigcc.core.schema.Chapter;
+import com.github.apigcc.core.schema.NodeWithComment;
+import com.github.apigcc.core.schema.Project;
+import com.github.apigcc.core.schema.Section;
+import com.github.javaparser.ast.comments.JavadocComment;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class RenderPlanTest {
+
+    private static Chapter chapter(String bookName, String id, int index, Section... sections) {
+        Chapter chapter = new Chapter();
+        chapter.setBookName(bookName);
+        chapter.setId(id);
+        chapter.setName(id);
+        chapter.setIndex(index);
+        chapter.getSections().addAll(Arrays.asList(sections));
+        return chapter;
+    }
+
+    private static Section section(String id, String uri, int index) {
+        Section section = new Section();
+        section.setId(id);
+        section.setName(id);
+        section.setUri(uri);
+        section.setIndex(index);
+        return section;
+    }
+
+    private static <T extends NodeWithComment> T ignored(T node) {
+        node.accept(new JavadocComment("\n * @ignore\n "));
+        return node;
+    }
+
+    private static List<String> chapters(RenderPlan plan) {
+        List<String> ids = new ArrayList<>();
+        for (RenderPlan.BookPlan book : plan.getBooks()) {
+            for (RenderPlan.ChapterPlan chapter : book.getChapters()) {
+                ids.add(book.getName() + "/" + chapter.getChapter().getId() + ":" + chapter.getSections().stream()
+                        .map(Section::getId).collect(Collectors.joining(",")));
+            }
+        }
+        return ids;
+    }
+
+    @Test
+    public void ordered() {
+        Project project = new Project();
+        project.addChapter(chapter(null, "orders", 2,
+                section("list", "/orders", 2), section("get", "/orders/{id}", 1)));
+        project.addChapter(chapter(null, "users", 1, section("get", "/users/{id}", 1)));
+        project.addChapter(chapter("admin", "roles", 1, section("get", "/roles/{id}", 1)));
+
+        RenderPlan plan = RenderPlan.of(project, (ExtConfig) null);
+
+        assertSame(project, plan.getProject());
+        assertEquals(Arrays.asList("admin/roles:get", "index/users:get", "index/orders:get,list"), chapters(plan));
+    }
+
+    @Test
+    public void urlExclude() {
+        Project project = new Project();
+        project.addChapter(chapter(null, "orders", 1,
+                section("get", "/orders/{id}", 1), section("list", "/orders", 2)));
+        project.addChapter(chapter(null, "users", 2, section("get", "/users/{id}", 1)));
+        ExtConfig extConfig = new ExtConfig();
+        extConfig.setUrlExclude(Arrays.asList("/orders", "/users/**"));
+
+        assertEquals(Collections.singletonList("index/orders:get"), chapters(RenderPlan.of(project, extConfig)));
+    }
+
+    @Test
+    public void urlOnly() {
+        Project project = new Project();
+        project.addChapter(chapter(null, "orders", 1,
+                section("get", "/orders/{id}", 1), section("list", "/orders", 2)));
+        project.addChapter(chapter(null, "users", 2, section("get", "/users/{id}", 1)));
+        ExtConfig extConfig = new ExtConfig();
+        extConfig.setUrlExclude(Collections.singletonList("/users/**"));
+        extConfig.setUrlOnly(Arrays.asList("/orders", "/users/{id}"));
+
+        assertEquals(Arrays.asList("index/orders:list", "index/users:get"), chapters(RenderPlan.of(project, extConfig)));
+    }
+
+    @Test
+    public void ignored() {
+        Project project = new Project();
+        project.addChapter(chapter(null, "orders", 1,
+                section("get", "/orders/{id}", 1), ignored(section("list", "/orders", 2))));
+        project.addChapter(ignored(chapter(null, "users", 2, section("get", "/users/{id}", 1))));
+        project.addChapter(chapter(null, "roles", 3, ignored(section("get", "/roles/{id}", 1))));
+        project.addChapter(chapter(null, "empty", 4));
+
+        assertEquals(Arrays.asList("index/orders:get", "index/roles:"), chapters(RenderPlan.of(project, (ExtConfig) null)));
+    }
+
+    @Test
+    public void projectRender() {
+        Project project = new Project();
+        List<Project> rendered = new ArrayList<>();
+        ProjectRender render = rendered::add;
+
+        render.render(RenderPlan.of(project, (ExtConfig) null));
+
+        assertEquals(Collections.singletonList(project), rendered);
+    }
+
+}
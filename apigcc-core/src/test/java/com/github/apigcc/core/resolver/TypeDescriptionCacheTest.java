@@ -0,0 +1,112 @@
+package com.github.apigcc.core.resolver;
+
+import com.github.apigcc.core.common.helper.DependencyContext;
+import com.github.apigcc.core.common.helper.ReferenceContext;
+import com.github.apigcc.core.description.ObjectTypeDescription;
+import com.github.apigcc.core.description.StringTypeDescription;
+import com.github.apigcc.core.description.TypeDescription;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class TypeDescriptionCacheTest {
+
+    private final TypeDescriptionCache cache = new TypeDescriptionCache();
+
+    @After
+    public void tearDown() {
+        ReferenceContext.remove();
+        DependencyContext.remove();
+    }
+
+    @Test
+    public void getReturnsIndependentCopy() {
+        cache.put("demo.User", user(), record(), dependencies());
+
+        TypeDescription first = cache.get("demo.User").get();
+        first.setKey("changed");
+        first.asObject().add(new StringTypeDescription("String", "email"));
+
+        TypeDescription second = cache.get("demo.User").get();
+        assertNotSame(first, second);
+        assertEquals("user", second.getKey());
+        assertEquals(1, second.asObject().getMembers().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void sharedMembersAreReadOnly() {
+        cache.put("demo.User", user(), record(), dependencies());
+
+        cache.get("demo.User").get().asObject().getMembers().clear();
+    }
+
+    @Test
+    public void dependentResultIsNotCached() {
+        ReferenceContext referenceContext = ReferenceContext.getInstance();
+        referenceContext.push("demo.Node");
+        referenceContext.begin();
+        referenceContext.push("demo.Node");
+        ReferenceContext.Frame frame = referenceContext.end();
+
+        cache.put("demo.Node", user(), frame, dependencies());
+
+        assertFalse(cache.get("demo.Node").isPresent());
+    }
+
+    @Test
+    public void skipsEntryReferencingTypeInProgress() {
+        ReferenceContext referenceContext = ReferenceContext.getInstance();
+        referenceContext.begin();
+        referenceContext.push("demo.User");
+        ReferenceContext.Frame frame = referenceContext.end();
+        cache.put("demo.User", user(), frame, dependencies());
+
+        assertFalse(cache.get("demo.User").isPresent());
+
+        referenceContext.remove("demo.User");
+        assertTrue(cache.get("demo.User").isPresent());
+    }
+
+    @Test
+    public void replaysDependencies() {
+        DependencyContext dependencyContext = DependencyContext.getInstance();
+        dependencyContext.begin();
+        dependencyContext.recordUnsolved(Collections.singleton("demo.Address"));
+        DependencyContext.Frame dependencies = dependencyContext.end();
+        cache.put("demo.User", user(), record(), dependencies);
+        dependencyContext.clear();
+
+        Optional<TypeDescription> description = cache.get("demo.User");
+
+        assertTrue(description.isPresent());
+        assertEquals(Collections.singleton("demo.Address"), dependencyContext.getUnsolved());
+    }
+
+    private static ObjectTypeDescription user() {
+        ObjectTypeDescription description = new ObjectTypeDescription();
+        description.setType("User");
+        description.setKey("user");
+        description.add(new StringTypeDescription("String", "name"));
+        return description;
+    }
+
+    private static ReferenceContext.Frame record() {
+        ReferenceContext referenceContext = ReferenceContext.getInstance();
+        referenceContext.begin();
+        return referenceContext.end();
+    }
+
+    private static DependencyContext.Frame dependencies() {
+        DependencyContext dependencyContext = DependencyContext.getInstance();
+        dependencyContext.begin();
+        return dependencyContext.end();
+    }
+
+}
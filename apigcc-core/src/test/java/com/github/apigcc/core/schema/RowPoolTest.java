@@ -0,0 +1,62 @@
+package com.github.apigcc.core.schema;
+
+import com.github.apigcc.core.description.Budget;
+import com.github.apigcc.core.description.ObjectTypeDescription;
+import com.github.apigcc.core.description.StringTypeDescription;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class RowPoolTest {
+
+    @Test
+    public void internsEqualRows() {
+        RowPool rowPool = new RowPool();
+
+        Row first = rowPool.intern(new Row("name", "String", "", "", "名称"));
+        Row second = rowPool.intern(new Row("name", "String", "", "", "名称"));
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void memberRowsBuiltOncePerPrefix() {
+        RowPool rowPool = new RowPool();
+        Object members = new Object();
+        AtomicInteger count = new AtomicInteger();
+
+        rowPool.rows(members, "user", () -> rows(count));
+        rowPool.rows(members, "user", () -> rows(count));
+        rowPool.rows(members, "order.user", () -> rows(count));
+
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    public void sharedDescriptionsShareRows() {
+        RowPool rowPool = new RowPool();
+        ObjectTypeDescription user = new ObjectTypeDescription();
+        user.setType("User");
+        StringTypeDescription name = new StringTypeDescription("String", "");
+        name.setKey("name");
+        user.add(name);
+
+        List<Row> first = new ArrayList<>(user.copy().rows(new Budget(-1, -1, -1, rowPool)));
+        List<Row> second = new ArrayList<>(user.copy().rows(new Budget(-1, -1, -1, rowPool)));
+
+        assertEquals(1, first.size());
+        assertSame(first.get(0), second.get(0));
+    }
+
+    private static List<Row> rows(AtomicInteger count) {
+        count.incrementAndGet();
+        return Collections.singletonList(new Row("name", "String", "", "", ""));
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.apigcc.core.solver;
+
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * 测试用jar包
+ */
+public class JarFixture {
+
+    private final Map<String, byte[]> entries = new LinkedHashMap<>();
+
+    /**
+     * 添加包含String属性的类
+     * @param name 完整类名
+     * @param fields 属性名
+     * @return
+     */
+    public JarFixture addClass(String name, String... fields) throws IOException, CannotCompileException {
+        ClassPool pool = new ClassPool(true);
+        CtClass ctClass = pool.makeClass(name);
+        for (String field : fields) {
+            ctClass.addField(CtField.make("private String " + field + ";", ctClass));
+        }
+        entries.put(name.replace('.', '/') + ".class", ctClass.toBytecode());
+        ctClass.detach();
+        return this;
+    }
+
+    /**
+     * 添加内容任意的class文件
+     * @param entryName
+     * @param bytes
+     * @return
+     */
+    public JarFixture addEntry(String entryName, byte[] bytes) {
+        entries.put(entryName, bytes);
+        return this;
+    }
+
+    public Path write(Path jar) throws IOException {
+        Files.createDirectories(jar.getParent());
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putNextEntry(new JarEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+}
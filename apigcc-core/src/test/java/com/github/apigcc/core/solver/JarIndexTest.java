@@ -0,0 +1,106 @@
+package com.github.apigcc.core.solver;
+
+import com.github.apigcc.core.common.ObjectMappers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JarIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<Path> indexFiles(Path indexPath) throws Exception {
+        try (java.util.stream.Stream<Path> files = Files.list(indexPath)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void readsClasses() throws Exception {
+        Path jar = new JarFixture().addClass("demo.dto.User", "name").write(folder.getRoot().toPath().resolve("lib.jar"));
+
+        JarIndex index = new JarIndex(jar, null);
+
+        assertTrue(index.contains("demo.dto.User"));
+        assertFalse(index.contains("demo.dto.Order"));
+        Optional<JarClass> jarClass = index.getJarClass("demo.dto.User");
+        assertTrue(jarClass.isPresent());
+        assertTrue(jarClass.get().getField("name").isPresent());
+        assertFalse(index.read("demo.dto.Order").isPresent());
+    }
+
+    @Test
+    public void persistsIndex() throws Exception {
+        Path jar = new JarFixture().addClass("demo.dto.User").write(folder.getRoot().toPath().resolve("lib.jar"));
+        Path indexPath = folder.getRoot().toPath().resolve("index");
+
+        new JarIndex(jar, indexPath);
+        List<Path> files = indexFiles(indexPath);
+        assertEquals(1, files.size());
+
+        //索引未失效时直接读取磁盘上的索引
+        JarIndexEntry entry = ObjectMappers.instance.readValue(files.get(0).toFile(), JarIndexEntry.class);
+        entry.getClasses().put("demo.dto.Stored", "demo/dto/Stored.class");
+        Files.write(files.get(0), ObjectMappers.instance.writeValueAsBytes(entry));
+        assertTrue(new JarIndex(jar, indexPath).contains("demo.dto.Stored"));
+    }
+
+    @Test
+    public void changedJarInvalidatesIndex() throws Exception {
+        Path jar = new JarFixture().addClass("demo.dto.User").write(folder.getRoot().toPath().resolve("lib.jar"));
+        Path indexPath = folder.getRoot().toPath().resolve("index");
+        new JarIndex(jar, indexPath);
+
+        new JarFixture().addClass("demo.dto.User").addClass("demo.dto.Order", "code").write(jar);
+
+        JarIndex index = new JarIndex(jar, indexPath);
+        assertTrue(index.contains("demo.dto.Order"));
+        assertEquals(1, indexFiles(indexPath).size());
+    }
+
+    @Test
+    public void keepsEveryIndex() throws Exception {
+        List<Path> jars = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            jars.add(new JarFixture().addEntry("demo/C" + i + ".class", new byte[0]).write(folder.getRoot().toPath().resolve("lib" + i + ".jar")));
+        }
+        List<JarIndex> indexes = new ArrayList<>();
+        for (Path jar : jars) {
+            indexes.add(JarIndex.of(jar));
+        }
+
+        //所有jar包遍历一次后，索引仍然复用，不会被淘汰重建
+        for (int i = 0; i < jars.size(); i++) {
+            assertSame(indexes.get(i), JarIndex.of(jars.get(i)));
+        }
+    }
+
+    @Test
+    public void replacedJarIsIndexedAgain() throws Exception {
+        Path jar = new JarFixture().addClass("demo.dto.User", "name").write(folder.getRoot().toPath().resolve("lib.jar"));
+        JarIndex index = JarIndex.of(jar);
+        assertTrue(index.getJarClass("demo.dto.User").isPresent());
+
+        new JarFixture().addClass("demo.dto.User", "name").addClass("demo.dto.Order", "code").write(jar);
+
+        JarIndex replaced = JarIndex.of(jar);
+        assertNotSame(index, replaced);
+        assertTrue(replaced.contains("demo.dto.Order"));
+        assertSame(replaced, JarIndex.of(jar));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.github.apigcc.core.solver;
+
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.model.resolution.SymbolReference;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class JarIndexTypeSolverTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private JarIndex index() throws Exception {
+        Path jar = new JarFixture()
+                .addClass("demo.dto.User", "name")
+                .addEntry("demo/dto/Broken.class", "not a class".getBytes(StandardCharsets.UTF_8))
+                .write(folder.getRoot().toPath().resolve("lib.jar"));
+        return new JarIndex(jar, null);
+    }
+
+    @Test
+    public void solvesType() throws Exception {
+        JarIndexTypeSolver solver = new JarIndexTypeSolver(index());
+
+        SymbolReference<ResolvedReferenceTypeDeclaration> reference = solver.tryToSolveType("demo.dto.User");
+
+        assertTrue(reference.isSolved());
+        assertEquals("demo.dto.User", reference.getCorrespondingDeclaration().getQualifiedName());
+        assertEquals(1, reference.getCorrespondingDeclaration().getDeclaredFields().size());
+    }
+
+    @Test
+    public void unknownTypeUnsolved() throws Exception {
+        assertFalse(new JarIndexTypeSolver(index()).tryToSolveType("demo.dto.Order").isSolved());
+    }
+
+    @Test
+    public void unreadableClassUnsolved() throws Exception {
+        assertFalse(new JarIndexTypeSolver(index()).tryToSolveType("demo.dto.Broken").isSolved());
+    }
+
+    @Test
+    public void solversDoNotShareClasses() throws Exception {
+        JarIndex index = index();
+
+        ResolvedReferenceTypeDeclaration first = new JarIndexTypeSolver(index).solveType("demo.dto.User");
+        ResolvedReferenceTypeDeclaration second = new JarIndexTypeSolver(index).solveType("demo.dto.User");
+
+        assertNotSame(first, second);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.github.apigcc.core.solver;
+
+import com.github.apigcc.core.common.helper.FileHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SourceIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void nestedRootsIndexedOnce() {
+        Path module = folder.getRoot().toPath().toAbsolutePath().normalize().resolve("mod");
+        Path java = module.resolve("src/main/java");
+        Path dto = java.resolve("demo/dto/User.java");
+        FileHelper.write(dto, "package demo.dto; public class User {}");
+
+        SourceIndex index = new SourceIndex(Arrays.asList(module, java));
+
+        Map<Path, List<Path>> files = index.get("demo.dto");
+        assertEquals(Collections.singletonMap(java, Collections.singletonList(dto)), files);
+        assertTrue(index.get("src.main.java.demo.dto").isEmpty());
+    }
+
+}
@@ -8,6 +8,7 @@ import com.github.apigcc.core.common.helper.FileHelper;
 import com.github.apigcc.core.common.helper.StringHelper;
 import com.github.apigcc.core.common.markup.MarkupBuilder;
 import com.github.apigcc.core.common.markup.asciidoc.AsciiDoc;
+import com.google.common.collect.Iterables;
 import lombok.extern.slf4j.Slf4j;
 import org.asciidoctor.Asciidoctor;
 import org.asciidoctor.AttributesBuilder;
@@ -24,6 +25,10 @@ import java.nio.file.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,43 +48,40 @@ public class MainClass {
 
         List<Path> jars = new ArrayList<>();
         extConfig.getJars().forEach(s -> jars.addAll(FileHelper.findJars(Paths.get(s))));
-        List<MarkupBuilder> builderList = new ArrayList<>();
+        int moduleParallelism = Optional.ofNullable(extConfig.getModuleParallelism()).orElse(1);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, moduleParallelism));
+        List<Future<Apigcc>> futures = new ArrayList<>();
         for (Path path : dirList.stream().sorted().collect(Collectors.toList())) {
-            Context context = new Context();
-            String name = path.getFileName().toString();
-            if (CollectionUtils.isEmpty(extConfig.getModules())) {
-            }else {
-                DirModule dirModule = extConfig.getModules().stream().filter(m -> m.getDirName().equals(name)).findFirst().get();
-                context.setUrlPrefix(dirModule.getUrlPrefix());
+            futures.add(executor.submit(() -> build(extConfig, jars, path)));
+        }
+        //按模块顺序收集，合并文件的内容与串行生成一致
+        List<Apigcc> apigccList = new ArrayList<>();
+        List<MarkupBuilder> builderList = new ArrayList<>();
+        try {
+            for (Future<Apigcc> future : futures) {
+                Apigcc apigcc = future.get();
+                apigccList.add(apigcc);
+                builderList.addAll(apigcc.getMarkupBuilderList());
             }
-            context.setId(name);
-            context.setName(name);
-            context.addSource(path);
-//            context.addDependency(path);
-//            extConfig.getJars().forEach(s -> context.addJar(Paths.get(s)));
-            jars.forEach(context::addJar);
-            context.setBuildPath(Paths.get(extConfig.getBuildPath()));
-
-            Apigcc apigcc = new Apigcc(context);
-            apigcc.setExtConfig(extConfig);
-            apigcc.parse();
-            apigcc.render();
-            builderList.addAll(apigcc.getMarkupBuilderList());
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to build modules", e);
+        } finally {
+            executor.shutdown();
         }
         final Boolean mergeToOneFile = Optional.ofNullable(extConfig.getMergeToOneFile()).orElse(Boolean.FALSE);
         if (mergeToOneFile && !builderList.isEmpty()) {
-            Path buildPath = Apigcc.getInstance().getContext().getBuildPath();
+            Path buildPath = Paths.get(extConfig.getBuildPath());
             Path adocFile = buildPath.resolve(extConfig.getMergeFileName() + AsciiDoc.EXTENSION);
             FileHelper.write(adocFile, builderList.stream().map(MarkupBuilder::getContent).collect(Collectors.joining(System.lineSeparator())));
             log.info("Build AsciiDoc append to one file {}", adocFile);
 
-            Boolean renderHtml = Apigcc.getInstance().getExtConfig().getRenderHtml();
+            Boolean renderHtml = extConfig.getRenderHtml();
             if (renderHtml != null && renderHtml) {
                 //渲染adoc文件
                 AttributesBuilder attributes = AttributesBuilder.attributes();
                 attributes.sectionNumbers(true);
                 attributes.noFooter(true);
-                String css = Apigcc.getInstance().getContext().getCss();
+                String css = Iterables.getLast(apigccList).getContext().getCss();
                 if (StringHelper.nonBlank(css)) {
                     attributes.linkCss(true);
                     attributes.styleSheetName(css);
@@ -99,4 +101,48 @@ public class MainClass {
         }
     }
 
+    /**
+     * 生成单个模块的文档
+     * 每个模块使用独立的Apigcc实例，可在不同线程上同时生成
+     *
+     * @param extConfig
+     * @param jars
+     * @param path 模块目录
+     * @return
+     */
+    private static Apigcc build(ExtConfig extConfig, List<Path> jars, Path path) {
+        Context context = new Context();
+        String name = path.getFileName().toString();
+        if (CollectionUtils.isEmpty(extConfig.getModules())) {
+        }else {
+            DirModule dirModule = extConfig.getModules().stream().filter(m -> m.getDirName().equals(name)).findFirst().get();
+            context.setUrlPrefix(dirModule.getUrlPrefix());
+        }
+        context.setId(name);
+        context.setName(name);
+        context.addSource(path);
+//        context.addDependency(path);
+//        extConfig.getJars().forEach(s -> context.addJar(Paths.get(s)));
+        jars.forEach(context::addJar);
+        context.setBuildPath(Paths.get(extConfig.getBuildPath()));
+        Optional.ofNullable(extConfig.getParallelism()).ifPresent(context::setParallelism);
+        Optional.ofNullable(extConfig.getCache()).ifPresent(context::setCache);
+        Optional.ofNullable(extConfig.getTypeSolverCacheSize()).ifPresent(context::setTypeSolverCacheSize);
+        Optional.ofNullable(extConfig.getTypeMaxDepth()).ifPresent(context::setTypeMaxDepth);
+        Optional.ofNullable(extConfig.getTypeMaxFields()).ifPresent(context::setTypeMaxFields);
+        Optional.ofNullable(extConfig.getTypeMaxRows()).ifPresent(context::setTypeMaxRows);
+
+        Apigcc apigcc = new Apigcc(context);
+        apigcc.setExtConfig(extConfig);
+        boolean renderSnapshot = Optional.ofNullable(extConfig.getRenderSnapshot()).orElse(Boolean.FALSE);
+        if (!renderSnapshot || !apigcc.readSnapshot(context.getSnapshotPath())) {
+            apigcc.parse();
+            if (Optional.ofNullable(extConfig.getSnapshot()).orElse(Boolean.FALSE)) {
+                apigcc.writeSnapshot(context.getSnapshotPath());
+            }
+        }
+        apigcc.render();
+        return apigcc;
+    }
+
 }
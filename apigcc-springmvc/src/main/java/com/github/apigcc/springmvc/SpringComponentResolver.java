@@ -10,10 +10,14 @@ import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.type.Type;
 import com.github.javaparser.resolution.types.ResolvedType;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Optional;
 
 public class SpringComponentResolver extends ReferenceTypeResolver implements NameResolver {
 
+    private static final String PREFIX = "org.springframework";
+
     @Override
     public boolean accept(ResolvedType type) {
         return super.accept(type) && isSpringComponent(type.asReferenceType().getId());
@@ -46,7 +50,12 @@ public class SpringComponentResolver extends ReferenceTypeResolver implements Na
         return new UnAvailableTypeDescription();
     }
 
+    @Override
+    public Collection<String> acceptPrefixes() {
+        return Collections.singleton(PREFIX);
+    }
+
     private static boolean isSpringComponent(String id) {
-        return id.startsWith("org.springframework");
+        return id.startsWith(PREFIX);
     }
 }
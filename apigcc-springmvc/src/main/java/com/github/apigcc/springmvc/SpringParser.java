@@ -6,6 +6,7 @@ import com.github.apigcc.core.common.URI;
 import com.github.apigcc.core.common.helper.AnnotationHelper;
 import com.github.apigcc.core.common.helper.ExpressionHelper;
 import com.github.apigcc.core.common.helper.StringHelper;
+import com.github.apigcc.core.description.Budget;
 import com.github.apigcc.core.description.ObjectTypeDescription;
 import com.github.apigcc.core.description.TypeDescription;
 import com.github.apigcc.core.parser.ParserStrategy;
@@ -18,6 +19,7 @@ import com.github.javaparser.ast.expr.Expression;
 import com.google.common.collect.Lists;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +46,16 @@ public class SpringParser implements ParserStrategy {
 //        Apigcc.getInstance().getContext().getCodeTypeDeclarations().add(new PageTypeDeclaration());
     }
 
+    /**
+     * 只有包含@RestController或@Controller的源码文件需要解析
+     *
+     * @return
+     */
+    @Override
+    public Collection<String> markers() {
+        return ANNOTATION_CONTROLLERS;
+    }
+
     /**
      * 处理被@RestController和@Controller标记的类
      *
@@ -145,11 +157,9 @@ public class SpringParser implements ParserStrategy {
         for (Parameter parameter : n.getParameters()) {
             if (ParameterHelper.isPathVariable(parameter)) {
                 section.getPathVariable().put(parameter.getNameAsString(), "");
-                Row row = new Row();
-                row.setKey(parameter.getNameAsString());
-                row.setType(parameter.getType().toString());
-                section.param(row.getKey()).ifPresent(tag -> row.setRemark(tag.getContent()));
-                section.addRequestRow(row);
+                String key = parameter.getNameAsString();
+                String remark = section.param(key).map(Tag::getContent).orElse(null);
+                section.addRequestRow(new Row(key, parameter.getType().toString(), null, null, remark));
             }
         }
     }
@@ -216,12 +226,13 @@ public class SpringParser implements ParserStrategy {
             Parameter parameter = ParameterHelper.getRequestBody(n.getParameters());
             TypeDescription description = Apigcc.getInstance().getTypeResolvers().resolve(parameter.getType());
             if (description.isAvailable()) {
+                Budget budget = section.getBudget();
                 if (description.isArray()) {
-                    section.setParameter(description.asArray().getValue());
+                    section.setParameter(description.asArray().toSample(budget));
                 } else if (description.isObject()) {
-                    section.setParameter(description.asObject().getValue());
+                    section.setParameter(description.asObject().toSample(budget));
                 }
-                section.addRequestRows(description.rows());
+                section.addRequestRows(description.rows(budget));
             }
         } else {
             ObjectTypeDescription objectTypeDescription = new ObjectTypeDescription();
@@ -240,8 +251,9 @@ public class SpringParser implements ParserStrategy {
                     }
                 }
             }
-            section.setParameter(objectTypeDescription.getValue());
-            section.addRequestRows(objectTypeDescription.rows());
+            Budget budget = section.getBudget();
+            section.setParameter(objectTypeDescription.toSample(budget));
+            section.addRequestRows(objectTypeDescription.rows(budget));
         }
 
     }
@@ -295,8 +307,9 @@ public class SpringParser implements ParserStrategy {
                 }
             }
         }
-        section.setParameter(objectTypeDescription.getValue());
-        section.addRequestRows(objectTypeDescription.rows());
+        Budget budget = section.getBudget();
+        section.setParameter(objectTypeDescription.toSample(budget));
+        section.addRequestRows(objectTypeDescription.rows(budget));
     }
 
 }
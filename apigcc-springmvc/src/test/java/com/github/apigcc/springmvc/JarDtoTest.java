@@ -0,0 +1,93 @@
+package com.github.apigcc.springmvc;
+
+import com.github.apigcc.core.Apigcc;
+import com.github.apigcc.core.Context;
+import com.github.apigcc.core.ExtConfig;
+import com.github.apigcc.core.common.helper.FileHelper;
+import com.github.apigcc.core.schema.Chapter;
+import com.github.apigcc.core.schema.Section;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class JarDtoTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path writeJar(String name, CtClass... classes) throws Exception {
+        Path jar = folder.getRoot().toPath().resolve("lib").resolve(name);
+        Files.createDirectories(jar.getParent());
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (CtClass ctClass : classes) {
+                out.putNextEntry(new JarEntry(ctClass.getName().replace('.', '/') + ".class"));
+                out.write(ctClass.toBytecode());
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    /**
+     * 只存在于jar包中的DTO，属性类型分别位于其他jar包、JDK，其中一个属性的类型不在任何jar包中
+     */
+    @Test
+    public void resolvesFieldsFromClassFile() throws Exception {
+        ClassPool pool = new ClassPool(true);
+        CtClass customer = pool.makeClass("demo.other.Customer");
+        customer.addField(CtField.make("private String name;", customer));
+        CtClass missing = pool.makeClass("demo.missing.Gone");
+        CtClass order = pool.makeClass("demo.dto.Order");
+        order.addField(CtField.make("private String code;", order));
+        order.addField(new CtField(customer, "customer", order));
+        order.addField(new CtField(missing, "gone", order));
+        CtField items = CtField.make("private java.util.List items;", order);
+        items.setGenericSignature("Ljava/util/List<Ljava/lang/Integer;>;");
+        order.addField(items);
+        order.addField(CtField.make("private static final int VERSION = 1;", order));
+
+        Path root = folder.newFolder("src").toPath();
+        FileHelper.write(root.resolve("demo/controller/OrderController.java"), String.join("\n",
+                "package demo.controller;",
+                "import demo.dto.Order;",
+                "import org.springframework.web.bind.annotation.*;",
+                "@RestController",
+                "@RequestMapping(\"/orders\")",
+                "public class OrderController {",
+                "    @GetMapping(\"/{id}\")",
+                "    public Order get(@PathVariable Long id) { return null; }",
+                "}"));
+        Context context = new Context();
+        context.setId("demo");
+        context.addSource(root);
+        context.addJar(writeJar("dto.jar", order));
+        context.addJar(writeJar("other.jar", customer));
+        context.setBuildPath(folder.newFolder("build").toPath());
+        Apigcc apigcc = new Apigcc(context);
+        apigcc.setExtConfig(new ExtConfig());
+
+        apigcc.parse();
+
+        Chapter chapter = apigcc.getProject().getBooks().values().iterator().next().getChapters().iterator().next();
+        Section section = chapter.getSections().iterator().next();
+        //无法解析的属性被忽略，其余属性正常解析
+        assertEquals("String", section.getResponseRows().get("code").getType());
+        assertEquals("int[]", section.getResponseRows().get("items").getType());
+        assertEquals("String", section.getResponseRows().get("customer.name").getType());
+        assertFalse(section.getResponseRows().containsKey("gone"));
+        assertEquals(Collections.singletonMap("demo.missing.Gone", 1), apigcc.getTypeResolvers().getUnsolved());
+    }
+
+}
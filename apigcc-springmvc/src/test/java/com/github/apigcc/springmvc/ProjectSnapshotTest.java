@@ -0,0 +1,166 @@
+package com.github.apigcc.springmvc;
+
+import com.github.apigcc.core.Apigcc;
+import com.github.apigcc.core.Context;
+import com.github.apigcc.core.ExtConfig;
+import com.github.apigcc.core.common.helper.FileHelper;
+import com.github.apigcc.core.schema.Book;
+import com.github.apigcc.core.schema.Chapter;
+import com.github.apigcc.core.schema.Section;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ProjectSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path root;
+    private Path dto;
+    private Path snapshot;
+
+    @Before
+    public void setUp() throws Exception {
+        root = folder.newFolder("src").toPath();
+        snapshot = folder.getRoot().toPath().resolve("demo.snapshot");
+        dto = root.resolve("demo/dto/User.java");
+        FileHelper.write(root.resolve("demo/controller/UserController.java"), String.join("\n",
+                "package demo.controller;",
+                "import demo.dto.User;",
+                "import org.springframework.web.bind.annotation.*;",
+                "/** 用户 */",
+                "@RestController",
+                "@RequestMapping(\"/users\")",
+                "public class UserController {",
+                "    /** 详情 */",
+                "    @GetMapping(\"/{id}\")",
+                "    public User get(@PathVariable Long id) { return null; }",
+                "    /** 新增 */",
+                "    @PostMapping",
+                "    public User add(@RequestBody User user) { return user; }",
+                "    /** 数量 */",
+                "    @GetMapping(\"/count\")",
+                "    public long count() { return 0; }",
+                "    /** 首字母 */",
+                "    @GetMapping(\"/initial\")",
+                "    public char initial() { return 'a'; }",
+                "    /** 比例 */",
+                "    @GetMapping(\"/ratio\")",
+                "    public float ratio() { return 0; }",
+                "    /**",
+                "     * 导出",
+                "     * @return id,name",
+                "     */",
+                "    @GetMapping(\"/export\")",
+                "    public String export() { return null; }",
+                "}"));
+        FileHelper.write(dto, "package demo.dto; public class User { /** 名称 */ String name; Integer age; java.util.List<User> friends; }");
+    }
+
+    private Apigcc newApigcc(String buildPath, int typeMaxDepth) throws IOException {
+        Context context = new Context();
+        context.setId("demo");
+        context.setName("demo");
+        context.addSource(root);
+        context.setTypeMaxDepth(typeMaxDepth);
+        context.setBuildPath(folder.newFolder(buildPath).toPath());
+        Apigcc apigcc = new Apigcc(context);
+        apigcc.setExtConfig(new ExtConfig());
+        return apigcc;
+    }
+
+    private static Map<String, String> rendered(Apigcc apigcc) throws IOException {
+        apigcc.render();
+        Path buildPath = apigcc.getContext().getBuildPath();
+        try (Stream<Path> files = Files.walk(buildPath)) {
+            Map<String, String> result = new TreeMap<>();
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                result.put(buildPath.relativize(file).toString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            }
+            return result;
+        }
+    }
+
+    @Test
+    public void renderFromSnapshot() throws IOException {
+        Apigcc parsed = newApigcc("parsed", 4);
+        parsed.parse();
+        parsed.writeSnapshot(snapshot);
+        Map<String, String> expected = rendered(parsed);
+        assertFalse(expected.isEmpty());
+        assertTrue(expected.values().iterator().next().contains("/users"));
+
+        Apigcc restored = newApigcc("restored", 4);
+        assertTrue(restored.readSnapshot(snapshot));
+        assertEquals(expected, rendered(restored));
+    }
+
+    private static Map<String, Object> rawResponses(Apigcc apigcc) {
+        Map<String, Object> result = new TreeMap<>();
+        for (Book book : apigcc.getProject().getBooks().values()) {
+            for (Chapter chapter : book.getChapters()) {
+                for (Section section : chapter.getSections()) {
+                    if (section.getRawResponse() != null) {
+                        result.put(section.getId(), section.getRawResponse());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 基本类型的默认值读取后类型不变
+     */
+    @Test
+    public void rawResponseFromSnapshot() throws IOException {
+        Apigcc parsed = newApigcc("parsed", 4);
+        parsed.parse();
+        parsed.writeSnapshot(snapshot);
+        Map<String, Object> expected = rawResponses(parsed);
+        assertEquals(4, expected.size());
+
+        Apigcc restored = newApigcc("restored", 4);
+        assertTrue(restored.readSnapshot(snapshot));
+        Map<String, Object> actual = rawResponses(restored);
+        assertEquals(expected, actual);
+        for (Map.Entry<String, Object> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().getClass(), actual.get(entry.getKey()).getClass());
+        }
+    }
+
+    @Test
+    public void sourceChanged() throws IOException {
+        Apigcc parsed = newApigcc("parsed", 4);
+        parsed.parse();
+        parsed.writeSnapshot(snapshot);
+        FileHelper.write(dto, "package demo.dto; public class User { String name; }");
+
+        assertFalse(newApigcc("restored", 4).readSnapshot(snapshot));
+    }
+
+    @Test
+    public void settingsChanged() throws IOException {
+        Apigcc parsed = newApigcc("parsed", 4);
+        parsed.parse();
+        parsed.writeSnapshot(snapshot);
+
+        assertFalse(newApigcc("restored", 2).readSnapshot(snapshot));
+    }
+
+}